@@ -0,0 +1,58 @@
+package bench;
+
+import model.AdversarialSecret;
+import model.CandidateSet;
+import model.Guess;
+import model.WordCodec;
+import model.WordDictionary;
+import model.WordScorer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// AdversarialBenchmark.java
+// The adversary's answer to an opener over the whole dictionary: bucketing packed words
+// into reused primitive arrays versus grouping a Guess per word into lists by pattern.
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdversarialBenchmark {
+    private WordDictionary dict;
+    private AdversarialSecret adversary;
+    private CandidateSet candidates;
+    private long opener;
+
+    @Setup
+    public void setup() {
+        dict = WordDictionary.getDefault();
+        adversary = new AdversarialSecret(dict);
+        candidates = new CandidateSet(dict);
+        opener = WordCodec.encode("crane");
+    }
+
+    @Benchmark
+    public int primitiveBuckets() {
+        candidates.reset();
+        return adversary.answer(opener, candidates);
+    }
+
+    @Benchmark
+    public int guessPerWord() {
+        Map<Integer, List<String>> buckets = new HashMap<>();
+        for (int i = 0; i < dict.size(); i++) {
+            String word = dict.wordAt(i);
+            buckets.computeIfAbsent(new Guess("crane", word).getPattern(), k -> new ArrayList<>()).add(word);
+        }
+        List<String> best = null;
+        for (List<String> bucket : buckets.values()) if (best == null || bucket.size() > best.size()) best = bucket;
+        return WordScorer.score(opener, WordCodec.encode(best.get(0)), 5);
+    }
+}
@@ -0,0 +1,50 @@
+package bench;
+
+import control.DailyPuzzleService;
+import control.WordleController;
+import model.WordDictionary;
+import model.WordleModel;
+import org.openjdk.jmh.annotations.*;
+import solver.EntropySolver;
+import solver.Hint;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+// DailyPuzzleBenchmark.java
+// One player's daily game up to the first hint (new game, opener, hint), on the day's
+// shared state versus a standalone game that scores and ranks everything itself.
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DailyPuzzleBenchmark {
+    private DailyPuzzleService.Day day;
+
+    @Setup
+    public void setup() {
+        DailyPuzzleService service = new DailyPuzzleService(WordDictionary.getDefault(),
+                WordDictionary.getDefaultAnswers(), EntropySolver.getDefault(), Clock.systemDefaultZone(),
+                DailyPuzzleService.DEFAULT_LEAD, Collections.singletonList("crane"));
+        day = service.today();
+    }
+
+    @Benchmark
+    public Hint sharedDay() throws Exception {
+        WordleController controller = new WordleController(new WordleModel(day.getPuzzle()));
+        controller.setHintCache(day.getHints());
+        controller.forceGuess("crane");
+        return controller.requestHint().get();
+    }
+
+    @Benchmark
+    public Hint standalone() throws Exception {
+        WordleController controller = new WordleController(new WordleModel(day.getPuzzle().getSecretWord()));
+        controller.forceGuess("crane");
+        return controller.requestHint().get();
+    }
+}
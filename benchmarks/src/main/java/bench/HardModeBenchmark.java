@@ -0,0 +1,51 @@
+package bench;
+
+import model.Guess;
+import model.HardModeConstraints;
+import model.WordDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// HardModeBenchmark.java
+// Filtering the whole dictionary after three guesses: compiled HardModeConstraints
+// versus re-running checkWord for every word against the guess history.
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HardModeBenchmark {
+    private WordDictionary dict;
+    private Guess[] history;
+    private HardModeConstraints rules;
+
+    @Setup
+    public void setup() {
+        dict = WordDictionary.getDefault();
+        history = new Guess[]{new Guess("crane", "light"), new Guess("sloth", "light"), new Guess("might", "light")};
+        rules = new HardModeConstraints(5);
+        for (Guess g : history) rules.add(g);
+    }
+
+    @Benchmark
+    public long[] constraintMask() {
+        return rules.matchMask(dict);
+    }
+
+    @Benchmark
+    public long[] rescoreHistory() {
+        long[] mask = new long[(dict.size() + 63) >>> 6];
+        for (int i = 0; i < dict.size(); i++) {
+            String word = dict.wordAt(i);
+            boolean fits = true;
+            for (Guess g : history) {
+                fits &= new Guess(g.getGuess(), word).getPattern() == g.getPattern();
+            }
+            if (fits) mask[i >>> 6] |= 1L << i;
+        }
+        return mask;
+    }
+}
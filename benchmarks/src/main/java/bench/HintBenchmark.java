@@ -0,0 +1,51 @@
+package bench;
+
+import model.CandidateSet;
+import model.Guess;
+import model.WordleModel;
+import org.openjdk.jmh.annotations.*;
+import solver.DecisionTree;
+import solver.EntropySolver;
+import solver.Hint;
+
+import java.util.concurrent.TimeUnit;
+
+// HintBenchmark.java
+// The hint endpoint's work at the start of a game and after the opener: walking the
+// precomputed DecisionTree versus ranking every guess with the EntropySolver.
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HintBenchmark {
+    @Param({"0", "1"})
+    public int played;
+
+    private DecisionTree tree;
+    private EntropySolver solver;
+    private Guess[] history;
+    private CandidateSet candidates;
+
+    @Setup
+    public void setup() {
+        tree = DecisionTree.getDefault();
+        solver = EntropySolver.getDefault();
+        WordleModel model = new WordleModel("light");
+        for (int i = 0; i < played; i++) model.makeGuess(tree.next(model.getGuesses(), i).getWord());
+        history = model.getGuesses().clone();
+        candidates = model.copyCandidates();
+    }
+
+    @Benchmark
+    public Hint decisionTree() {
+        return tree.next(history, played);
+    }
+
+    @Benchmark
+    public Hint entropy() {
+        return played == 0 ? solver.rank(candidates.toIndices(), 1).get(0) : solver.suggest(candidates);
+    }
+}
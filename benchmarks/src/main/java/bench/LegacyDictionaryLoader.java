@@ -0,0 +1,38 @@
+package bench;
+
+import model.WordCodec;
+import model.WordDictionary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// LegacyDictionaryLoader.java
+// The previous WordDictionary.fromResource (BufferedReader, one String per line, trim and
+// encode), kept so the streaming loader can be benchmarked side-by-side with it. The word is
+// cut at the first space so lists with a frequency column still load (the column is dropped).
+
+public final class LegacyDictionaryLoader {
+    private LegacyDictionaryLoader() {
+    }
+
+    public static WordDictionary fromResource(String resource, int wordLength) throws IOException {
+        InputStream in = WordDictionary.class.getResourceAsStream(resource);
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String w = line.trim();
+                int space = w.indexOf(' ');
+                if (space >= 0) w = w.substring(0, space);
+                long p = WordCodec.encode(w);
+                if (p != WordCodec.INVALID && WordCodec.length(p) == wordLength) words.add(w);
+            }
+        }
+        return WordDictionary.fromWords(words, wordLength);
+    }
+}
@@ -0,0 +1,36 @@
+package bench;
+
+import model.LetterFeedback;
+
+// LegacyScorer.java
+// The original Guess.checkWord algorithm (26-int count array + String.contains per letter),
+// kept verbatim so every faster engine can be benchmarked side-by-side with it.
+
+public final class LegacyScorer {
+    private LegacyScorer() {
+    }
+
+    public static LetterFeedback[] checkWord(String guess, String secretWord) {
+        LetterFeedback[] letterEval = new LetterFeedback[5];
+        int[] letterCounts = new int[26];
+        for (int i = 0; i < secretWord.length(); i++) {
+            letterCounts[secretWord.charAt(i) - 'a']++;
+        }
+        for (int i = 0; i < 5; i++) {
+            if (guess.charAt(i) == secretWord.charAt(i)) {
+                letterEval[i] = LetterFeedback.CORRECT;
+                letterCounts[guess.charAt(i) - 'a']--;
+            }
+        }
+        for (int i = 0; i < 5; i++) {
+            if (letterEval[i] == LetterFeedback.CORRECT) {
+            } else if (secretWord.contains(String.valueOf(guess.charAt(i))) && letterCounts[guess.charAt(i) - 'a'] > 0) {
+                letterEval[i] = LetterFeedback.PRESENT;
+                letterCounts[guess.charAt(i) - 'a']--;
+            } else {
+                letterEval[i] = LetterFeedback.ABSENT;
+            }
+        }
+        return letterEval;
+    }
+}
@@ -0,0 +1,36 @@
+package bench;
+
+import model.WordleModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// ModelBenchmark.java
+// WordleModel.makeGuess, including candidate-set narrowing: a fresh game per invocation,
+// played with a fixed sequence of guesses.
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+    @Benchmark
+    public WordleModel firstGuess() {
+        WordleModel model = new WordleModel("light");
+        model.makeGuess("crane");
+        return model;
+    }
+
+    @Benchmark
+    public WordleModel fullGame() {
+        WordleModel model = new WordleModel("light");
+        model.makeGuess("crane");
+        model.makeGuess("sloth");
+        model.makeGuess("might");
+        model.makeGuess("light");
+        return model;
+    }
+}
@@ -0,0 +1,62 @@
+package bench;
+
+import model.MultiBoardModel;
+import model.WordDictionary;
+import model.WordScorer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// MultiBoardBenchmark.java
+// Multi-board games: one guess against 16 secrets with WordScorer.scoreAll versus a
+// score() call per board, and a full 16-board guess including candidate filtering.
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiBoardBenchmark {
+    private String[] secretWords;
+    private long[] secrets;
+    private int[] out;
+    private long guess;
+
+    @Setup
+    public void setup() {
+        WordDictionary dict = WordDictionary.getDefault();
+        secretWords = new String[16];
+        secrets = new long[16];
+        for (int i = 0; i < 16; i++) {
+            secretWords[i] = dict.wordAt(i * 311);
+            secrets[i] = dict.packedAt(i * 311);
+        }
+        out = new int[16];
+        guess = dict.packedAt(dict.indexOf("crane"));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int[] scoreAll() {
+        WordScorer.scoreAll(guess, secrets, 5, out);
+        return out;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int[] scorePerBoard() {
+        for (int i = 0; i < secrets.length; i++) out[i] = WordScorer.score(guess, secrets[i], 5);
+        return out;
+    }
+
+    @Benchmark
+    public MultiBoardModel sixteenBoardGame() {
+        MultiBoardModel model = new MultiBoardModel(secretWords);
+        model.makeGuess("crane");
+        model.makeGuess("sloth");
+        model.makeGuess("pudgy");
+        model.makeGuess("wimpy");
+        return model;
+    }
+}
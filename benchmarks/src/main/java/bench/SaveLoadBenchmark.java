@@ -0,0 +1,76 @@
+package bench;
+
+import io.GameJournal;
+import io.SaveLoad;
+import model.WordleModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// SaveLoadBenchmark.java
+// Saving and loading a mid-game state through io.SaveLoad, using temp files so the
+// player's real save is never touched. Compares the JSON format, the binary snapshot
+// and a single journal append (what autosave does per guess).
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveLoadBenchmark {
+
+    private File file;
+    private GameJournal journal;
+    private WordleModel model;
+
+    @Setup
+    public void setup() throws IOException {
+        file = File.createTempFile("wordle_bench", ".json");
+        file.deleteOnExit();
+        model = new WordleModel("light");
+        model.makeGuess("crane");
+        model.makeGuess("sloth");
+        model.makeGuess("might");
+        SaveLoad.saveState(model, file);
+
+        Path dir = Files.createTempDirectory("wordle_bench");
+        dir.toFile().deleteOnExit();
+        journal = new GameJournal(dir.resolve("save.bin"), dir.resolve("save.journal"), false);
+        SaveLoad.saveState(model, journal);
+    }
+
+    @Benchmark
+    public void save() {
+        SaveLoad.saveState(model, file);
+    }
+
+    @Benchmark
+    public WordleModel load() {
+        WordleModel loaded = new WordleModel("apple");
+        SaveLoad.loadState(loaded, file);
+        return loaded;
+    }
+
+    @Benchmark
+    public void snapshot() {
+        SaveLoad.saveState(model, journal);
+    }
+
+    @Benchmark
+    public WordleModel loadBinary() {
+        WordleModel loaded = new WordleModel("apple");
+        SaveLoad.loadState(loaded, journal);
+        return loaded;
+    }
+
+    @Benchmark
+    public void journalGuess() {
+        // one fixed-size record append; a new-game record can be repeated indefinitely, unlike a guess
+        SaveLoad.recordNewGame(model, journal);
+    }
+}
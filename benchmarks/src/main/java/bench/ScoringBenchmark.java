@@ -0,0 +1,68 @@
+package bench;
+
+import model.Guess;
+import model.LetterFeedback;
+import model.WordCodec;
+import model.WordDictionary;
+import model.WordScorer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// ScoringBenchmark.java
+// Scores one (guess, secret) pair with the legacy algorithm, the packed WordScorer and the
+// Guess object the game builds, on plain, duplicate-letter and all-green pairs. The
+// dictionarySweep case scores one guess against the whole bundled word list.
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+
+    @Param({"crane:light", "eerie:there", "speed:abide", "slate:slate"})
+    public String pair;
+
+    private String guess;
+    private String secret;
+    private long packedGuess;
+    private long packedSecret;
+    private WordDictionary dictionary;
+
+    @Setup
+    public void setup() {
+        String[] parts = pair.split(":");
+        guess = parts[0];
+        secret = parts[1];
+        packedGuess = WordCodec.encode(guess);
+        packedSecret = WordCodec.encode(secret);
+        dictionary = WordDictionary.getDefault();
+    }
+
+    @Benchmark
+    public LetterFeedback[] legacyCheckWord() {
+        return LegacyScorer.checkWord(guess, secret);
+    }
+
+    @Benchmark
+    public int packedScore() {
+        return WordScorer.score(packedGuess, packedSecret, 5);
+    }
+
+    @Benchmark
+    public Guess guessObject() {
+        return new Guess(guess, secret);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int dictionarySweep() {
+        int sum = 0;
+        for (int i = 0; i < dictionary.size(); i++) {
+            sum += WordScorer.score(packedGuess, dictionary.packedAt(i), 5);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,56 @@
+package bench;
+
+import model.WordDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// StartupBenchmark.java
+// Dictionary loading as the app sees it at startup: each cold* benchmark is one call in a
+// fresh JVM (class loading and an unwarmed JIT included), repeated over several forks;
+// the warm* ones show the steady-state cost of the same load.
+// Streaming NIO loader vs. the previous BufferedReader loader.
+
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StartupBenchmark {
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public WordDictionary coldDefaultDictionary() {
+        return WordDictionary.forLength(5);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public WordDictionary coldLegacyDictionary() throws IOException {
+        return LegacyDictionaryLoader.fromResource(WordDictionary.DEFAULT_RESOURCE, 5);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    public WordDictionary warmLargestDictionary() {
+        return WordDictionary.fromResource("/words8.txt", 8);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    public WordDictionary warmLegacyLargestDictionary() throws IOException {
+        return LegacyDictionaryLoader.fromResource("/words8.txt", 8);
+    }
+}
@@ -0,0 +1,65 @@
+package bench;
+
+import com.sun.net.httpserver.HttpServer;
+import control.DictionaryValidator;
+import control.GuessValidator;
+import control.OnlineValidator;
+import model.WordDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+// ValidationBenchmark.java
+// Guess validation: the in-memory dictionary, the GuessValidator facade, and the online
+// validator pointed at a local HTTP stand-in (so network cost is measured without the
+// real API). The stand-in answers 200 for every word, like a valid dictionary hit.
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"crane", "zzzzz"})
+    public String word;
+
+    private HttpServer server;
+    private OnlineValidator online;
+    private DictionaryValidator local;
+
+    @Setup
+    public void setup() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        online = new OnlineValidator("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        local = new DictionaryValidator(WordDictionary.getDefault());
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public boolean dictionary() {
+        return local.isValid(word);
+    }
+
+    @Benchmark
+    public boolean guessValidator() {
+        return GuessValidator.isValid(word);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean onlineLocalStandIn() {
+        return online.isValid(word);
+    }
+}
@@ -0,0 +1,174 @@
+package control;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * CachingValidator
+ * Bounded cache in front of a slow remote lookup (the Dictionary API). Valid, invalid and
+ * error answers each get their own TTL, so a timeout is only remembered briefly and never
+ * turns into "not a word". Reads are a lock-free ConcurrentHashMap lookup; when the cache
+ * grows past its limit the least recently used tenth is evicted under a lock. Valid/invalid
+ * entries can be saved to a text file and reloaded next session.
+ */
+
+public class CachingValidator implements WordValidator {
+    public static final String DEFAULT_FILE = "wordle_validation_cache.txt";
+
+    private static final long POSITIVE_TTL = TimeUnit.DAYS.toMillis(30);
+    private static final long NEGATIVE_TTL = TimeUnit.DAYS.toMillis(1);
+    private static final long ERROR_TTL = TimeUnit.SECONDS.toMillis(30);
+
+    private static class Entry {
+        final Verdict verdict;
+        final long expiresAt;
+        volatile long lastAccess;
+
+        Entry(Verdict verdict, long expiresAt, long now) {
+            this.verdict = verdict;
+            this.expiresAt = expiresAt;
+            this.lastAccess = now;
+        }
+    }
+
+    private final Function<String, Verdict> lookup;
+    private final int maxEntries;
+    private final Path file; // null = memory only
+    private final LongSupplier clock;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CachingValidator(OnlineValidator online, int maxEntries, Path file) {
+        this(online::check, maxEntries, file, System::currentTimeMillis);
+    }
+
+    public CachingValidator(Function<String, Verdict> lookup, int maxEntries, Path file, LongSupplier clock) {
+        this.lookup = lookup;
+        this.maxEntries = maxEntries;
+        this.file = file;
+        this.clock = clock;
+        if (file != null) load();
+    }
+
+    @Override
+    public boolean isValid(String word) {
+        return check(word) == Verdict.VALID;
+    }
+
+    public Verdict check(String word) {
+        if (word == null) return Verdict.INVALID;
+        String key = word.toLowerCase();
+        long now = clock.getAsLong();
+
+        Entry e = cache.get(key);
+        if (e != null && e.expiresAt > now) {
+            e.lastAccess = now;
+            hits.incrementAndGet();
+            return e.verdict;
+        }
+        misses.incrementAndGet();
+        Verdict verdict = lookup.apply(key);
+        cache.put(key, new Entry(verdict, now + ttl(verdict), now));
+        if (cache.size() > maxEntries) evict();
+        return verdict;
+    }
+
+    private static long ttl(Verdict verdict) {
+        switch (verdict) {
+            case VALID: return POSITIVE_TTL;
+            case INVALID: return NEGATIVE_TTL;
+            default: return ERROR_TTL;
+        }
+    }
+
+    // drops expired entries, then the least recently used ones down to 90% of the limit
+    private void evict() {
+        synchronized (evictionLock) {
+            if (cache.size() <= maxEntries) return;
+            long now = clock.getAsLong();
+            List<Map.Entry<String, Entry>> entries = new ArrayList<>(cache.entrySet());
+            entries.sort((a, b) -> Long.compare(a.getValue().lastAccess, b.getValue().lastAccess));
+            int target = maxEntries - maxEntries / 10;
+            int size = entries.size();
+            for (Map.Entry<String, Entry> e : entries) {
+                if (size <= target && e.getValue().expiresAt > now) continue;
+                if (cache.remove(e.getKey(), e.getValue())) {
+                    evictions.incrementAndGet();
+                    size--;
+                }
+            }
+        }
+    }
+
+    /** Writes unexpired valid/invalid entries (errors are never persisted). */
+    public void save() {
+        if (file == null) return;
+        long now = clock.getAsLong();
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Entry> e : cache.entrySet()) {
+                Entry entry = e.getValue();
+                if (entry.verdict == Verdict.ERROR || entry.expiresAt <= now) continue;
+                out.write(e.getKey() + "\t" + entry.verdict + "\t" + entry.expiresAt);
+                out.newLine();
+            }
+        } catch (IOException ex) {
+            System.err.println("⚠️ Could not save validation cache: " + ex.getMessage());
+            return;
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            System.err.println("⚠️ Could not save validation cache: " + ex.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) return;
+        long now = clock.getAsLong();
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] parts = line.split("\t");
+                if (parts.length != 3) continue;
+                try {
+                    Verdict verdict = Verdict.valueOf(parts[1]);
+                    long expiresAt = Long.parseLong(parts[2]);
+                    if (verdict != Verdict.ERROR && expiresAt > now) {
+                        cache.put(parts[0], new Entry(verdict, expiresAt, now));
+                    }
+                } catch (IllegalArgumentException ignored) {
+                    // skip corrupt lines
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not load validation cache: " + e.getMessage());
+        }
+    }
+
+    public int size() { return cache.size(); }
+    public long getHits() { return hits.get(); }
+    public long getMisses() { return misses.get(); }
+    public long getEvictions() { return evictions.get(); }
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0 : (double) hits.get() / total;
+    }
+}
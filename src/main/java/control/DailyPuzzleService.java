@@ -0,0 +1,164 @@
+package control;
+
+import metrics.Counter;
+import metrics.Metrics;
+import metrics.Timer;
+import model.CandidateSet;
+import model.DailyPuzzle;
+import model.WordCodec;
+import model.WordDictionary;
+import solver.EntropySolver;
+import solver.HintCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DailyPuzzleService
+ * ------------------
+ * Hands out each day's shared state: the DailyPuzzle plus a HintCache used by every game of
+ * that day. A day is built once (pattern row, candidate bitsets and hints after the usual
+ * openers) and only read afterwards; concurrent first requests wait for that one build.
+ * Once started, a scheduler builds the next day {@code lead} before midnight, so the rush
+ * of games after rollover finds it ready instead of all stalling on the build. Days older
+ * than yesterday are dropped (games already running keep their own reference).
+ */
+public class DailyPuzzleService {
+    public static final Duration DEFAULT_LEAD = Duration.ofMinutes(10);
+    public static final List<String> DEFAULT_OPENERS = Arrays.asList(
+            "tares", "crane", "slate", "raise", "stare", "arose", "adieu", "audio", "trace", "crate");
+
+    private static final int HINT_CACHE_SIZE = 4096;
+    private static final Timer BUILD_TIMER = Metrics.timer("daily.build");
+    private static final Counter BUILD_ERRORS = Metrics.counter("daily.build.errors");
+
+    /** One day's puzzle and the hints shared by its games. */
+    public static final class Day {
+        private final DailyPuzzle puzzle;
+        private final HintCache hints;
+
+        Day(DailyPuzzle puzzle, HintCache hints) {
+            this.puzzle = puzzle;
+            this.hints = hints;
+        }
+
+        public DailyPuzzle getPuzzle() { return puzzle; }
+        public HintCache getHints() { return hints; }
+    }
+
+    private final WordDictionary dictionary;
+    private final WordDictionary answers;
+    private final EntropySolver solver; // null: no hints are computed ahead
+    private final Clock clock;
+    private final Duration lead;
+    private final List<String> openers;
+    private final ConcurrentHashMap<LocalDate, Day> days = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService scheduler;
+
+    private static class Holder {
+        static final DailyPuzzleService DEFAULT = createDefault();
+
+        private static DailyPuzzleService createDefault() {
+            WordDictionary dict = WordDictionary.getDefault();
+            DailyPuzzleService service = new DailyPuzzleService(dict, WordDictionary.getDefaultAnswers(),
+                    EntropySolver.forLength(dict.getWordLength()), Clock.systemDefaultZone(), DEFAULT_LEAD, DEFAULT_OPENERS);
+            service.start(Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "daily-puzzle-scheduler");
+                t.setDaemon(true);
+                return t;
+            }));
+            return service;
+        }
+    }
+
+    public DailyPuzzleService(WordDictionary dictionary, WordDictionary answers, EntropySolver solver, Clock clock,
+                              Duration lead, List<String> openers) {
+        this.dictionary = dictionary;
+        this.answers = answers;
+        this.solver = solver;
+        this.clock = clock;
+        this.lead = lead;
+        this.openers = openers;
+    }
+
+    /** Service over the bundled word lists and the local clock, with its scheduler running. */
+    public static DailyPuzzleService getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    /** Today's puzzle (by the service's clock), built now if the scheduler has not yet. */
+    public Day today() {
+        return forDate(LocalDate.now(clock));
+    }
+
+    public Day forDate(LocalDate date) {
+        return days.computeIfAbsent(date, this::build);
+    }
+
+    /** Whether the day is already built (no build cost on the next request). */
+    public boolean isReady(LocalDate date) {
+        return days.containsKey(date);
+    }
+
+    /** Runs prepareAhead now and then every day ahead of midnight on the given scheduler. */
+    public void start(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        scheduler.execute(this::runScheduled);
+    }
+
+    /**
+     * What the scheduler does: makes sure today is built, builds tomorrow once midnight is
+     * less than the lead time away, and drops days before yesterday.
+     */
+    public void prepareAhead() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        LocalDate today = now.toLocalDate();
+        forDate(today);
+        if (!now.plus(lead).toLocalDate().isBefore(today.plusDays(1))) forDate(today.plusDays(1));
+        days.keySet().removeIf(d -> d.isBefore(today.minusDays(1)));
+    }
+
+    private void runScheduled() {
+        try {
+            prepareAhead();
+        } catch (RuntimeException e) {
+            BUILD_ERRORS.increment();
+            System.err.println("⚠️ Daily puzzle precompute failed: " + e.getMessage());
+        }
+        ScheduledExecutorService s = scheduler;
+        if (s != null && !s.isShutdown()) s.schedule(this::runScheduled, nextRunMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // lead before the coming midnight, or just after it when that time has passed
+    private long nextRunMillis() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        ZonedDateTime next = midnight.minus(lead);
+        if (!next.isAfter(now)) next = midnight.plusMinutes(1);
+        return Math.max(1, Duration.between(now, next).toMillis());
+    }
+
+    // the puzzle, then the bitsets and hints after the usual openers
+    private Day build(LocalDate date) {
+        long start = System.nanoTime();
+        DailyPuzzle puzzle = DailyPuzzle.forDate(date, dictionary, answers);
+        HintCache hints = new HintCache(HINT_CACHE_SIZE);
+        for (String opener : openers) {
+            long[] mask = puzzle.candidatesAfter(WordCodec.encode(opener));
+            if (mask == null || solver == null) continue;
+            CandidateSet remaining = new CandidateSet(dictionary);
+            remaining.retain(mask);
+            hints.put(remaining, solver.suggest(remaining));
+        }
+        BUILD_TIMER.recordSince(start);
+        return new Day(puzzle, hints);
+    }
+}
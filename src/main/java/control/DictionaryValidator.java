@@ -0,0 +1,33 @@
+package control;
+
+import model.WordDictionary;
+
+/**
+ * DictionaryValidator
+ * Validates guesses against the bundled word list held in memory.
+ * Works offline and answers in a binary search over packed longs.
+ * Without a fixed dictionary, each word is checked against the list for its own length
+ * (4..8 letters), loading that list on first use.
+ */
+
+public class DictionaryValidator implements WordValidator {
+    private final WordDictionary dictionary; // null = pick by word length
+
+    public DictionaryValidator() {
+        this(null);
+    }
+
+    public DictionaryValidator(WordDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public boolean isValid(String word) {
+        if (word == null) return false;
+        if (dictionary == null) {
+            return word.length() >= WordDictionary.MIN_LENGTH && word.length() <= WordDictionary.MAX_LENGTH
+                    && WordDictionary.forLength(word.length()).contains(word);
+        }
+        return word.length() == dictionary.getWordLength() && dictionary.contains(word);
+    }
+}
@@ -0,0 +1,25 @@
+package control;
+
+import model.Guess;
+
+// GameListener.java
+// Callbacks for what happens to submitted guesses, so views (Swing, server, simulations)
+// can react without the controller knowing about them. Events are delivered on the
+// controller's publisher executor; every method has an empty default.
+
+public interface GameListener {
+    /** The guess was valid and has been applied to the model. */
+    default void guessAccepted(Guess guess) { }
+
+    /** The guess was not applied; reason is WRONG_LENGTH, INVALID_WORD, GAME_OVER or HARD_MODE. */
+    default void guessRejected(String word, GuessResult.Status reason) { }
+
+    /** Same event with the whole result (e.g. the hard-mode message); calls the method above by default. */
+    default void guessRejected(GuessResult result) { guessRejected(result.getWord(), result.getStatus()); }
+
+    /** Fired after guessAccepted when that guess solved the puzzle. */
+    default void gameWon(String secretWord, int guesses) { }
+
+    /** Fired after guessAccepted when that was the last guess and it missed. */
+    default void gameLost(String secretWord) { }
+}
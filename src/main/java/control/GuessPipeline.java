@@ -0,0 +1,81 @@
+package control;
+
+import metrics.Counter;
+import metrics.Metrics;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+// GuessPipeline.java
+// The asynchronous half of a controller, shared by WordleController and MultiBoardController:
+// a guess is processed (validate -> score -> persist) on the pipeline executor, and its
+// GuessResult is handed to the result handler and the GameListeners on the publisher
+// executor. Both executors default to the calling thread.
+
+final class GuessPipeline {
+    private static final Counter LISTENER_ERRORS = Metrics.counter("listener.errors");
+
+    private volatile Executor pipeline = Runnable::run; // where validation, scoring and saving run
+    private volatile Executor publisher = Runnable::run; // where results are delivered (the EDT for Swing)
+    private volatile Consumer<GuessResult> resultHandler = r -> { };
+    private final List<GameListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger pending = new AtomicInteger(); // guesses submitted but not yet published
+    private final IntSupplier guessCount; // reported with gameWon
+
+    GuessPipeline(IntSupplier guessCount) {
+        this.guessCount = guessCount;
+    }
+
+    //runs process on the pipeline executor, then publishes its result
+    CompletableFuture<GuessResult> submit(Supplier<GuessResult> process, Consumer<GuessResult> onPublish) {
+        pending.incrementAndGet();
+        CompletableFuture<GuessResult> result = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(process, pipeline)
+                .whenCompleteAsync((r, err) -> {
+                    pending.decrementAndGet();
+                    if (err != null) {
+                        result.completeExceptionally(err);
+                        return;
+                    }
+                    onPublish.accept(r);
+                    resultHandler.accept(r);
+                    fireEvents(r);
+                    result.complete(r);
+                }, publisher);
+        return result;
+    }
+
+    // a failing listener is reported but does not stop the others
+    private void fireEvents(GuessResult r) {
+        for (GameListener l : listeners) {
+            try {
+                if (!r.isAccepted()) {
+                    l.guessRejected(r);
+                    continue;
+                }
+                l.guessAccepted(r.getGuess());
+                if (r.isWon()) l.gameWon(r.getSecretWord(), guessCount.getAsInt());
+                else if (r.isLost()) l.gameLost(r.getSecretWord());
+            } catch (RuntimeException e) {
+                LISTENER_ERRORS.increment();
+                System.err.println("⚠️ GameListener " + l.getClass().getName() + " failed: " + e.getMessage());
+            }
+        }
+    }
+
+    void setExecutors(Executor pipeline, Executor publisher) {
+        this.pipeline = pipeline;
+        this.publisher = publisher;
+    }
+
+    void setResultHandler(Consumer<GuessResult> handler) { this.resultHandler = handler; }
+    void addListener(GameListener listener) { listeners.add(listener); }
+    void removeListener(GameListener listener) { listeners.remove(listener); }
+    int getPendingCount() { return pending.get(); }
+}
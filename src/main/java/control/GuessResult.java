@@ -0,0 +1,53 @@
+package control;
+
+import model.Guess;
+
+// GuessResult.java
+// Outcome of one submitted guess, delivered by the controller's guess pipeline once
+// validation, scoring and persistence have finished. Won/lost reflect the game state
+// right after this guess was applied.
+
+public class GuessResult {
+    public enum Status { ACCEPTED, INVALID_WORD, WRONG_LENGTH, GAME_OVER, HARD_MODE }
+
+    private final String word;
+    private final Status status;
+    private final Guess guess; // null unless ACCEPTED
+    private final boolean won;
+    private final boolean lost;
+    private final String secretWord; // only set once the game is over
+    private final String message; // why a HARD_MODE guess was rejected
+
+    public GuessResult(String word, Status status, Guess guess) {
+        this(word, status, guess, false, false, null);
+    }
+
+    public GuessResult(String word, Status status, Guess guess, boolean won, boolean lost, String secretWord) {
+        this(word, status, guess, won, lost, secretWord, null);
+    }
+
+    private GuessResult(String word, Status status, Guess guess, boolean won, boolean lost, String secretWord,
+                        String message) {
+        this.word = word;
+        this.status = status;
+        this.guess = guess;
+        this.won = won;
+        this.lost = lost;
+        this.secretWord = secretWord;
+        this.message = message;
+    }
+
+    //a rejection with an explanation for the player, e.g. "2nd letter must be R"
+    public static GuessResult rejected(String word, Status status, String message) {
+        return new GuessResult(word, status, null, false, false, null, message);
+    }
+
+    public String getWord() { return word; }
+    public Status getStatus() { return status; }
+    public Guess getGuess() { return guess; }
+    public boolean isAccepted() { return status == Status.ACCEPTED; }
+    public boolean isWon() { return won; }
+    public boolean isLost() { return lost; }
+    public String getSecretWord() { return secretWord; }
+    public String getMessage() { return message; }
+}
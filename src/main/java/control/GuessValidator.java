@@ -1,35 +1,52 @@
 package control;
 
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.net.URI;
+import metrics.Metrics;
+import model.WordDictionary;
+
+import java.nio.file.Paths;
 
 /**
  * GuessValidator
- * Validates user-entered words using the Dictionary API.
- * If offline or the API fails, it quietly rejects the guess.
+ * Validates user-entered words against the bundled dictionary (loaded once, in memory).
+ * The Dictionary API is only consulted as an optional fallback for words missing from
+ * the local list; enable it with -Dwordle.onlineFallback=true. API answers are cached
+ * (and saved to wordle_validation_cache.txt) so repeated words never hit the network twice.
  */
 
 public class GuessValidator {
-    private static final String API_URL = "https://api.dictionaryapi.dev/api/v2/entries/en/";
+    private static volatile WordValidator local = new DictionaryValidator(); // any supported length
+    private static volatile WordValidator fallback = Boolean.getBoolean("wordle.onlineFallback")
+            ? new CachingValidator(new OnlineValidator(), 4096, Paths.get(CachingValidator.DEFAULT_FILE)) : null;
+
+    static {
+        Metrics.gauge("validation.cache.hitRate", () -> {
+            WordValidator fb = fallback;
+            return fb instanceof CachingValidator ? ((CachingValidator) fb).getHitRate() : 0;
+        });
+    }
 
     public static boolean isValid(String word) {
-        if (word == null || word.length() != 5) return false;
-
-        try {
-            URI uri = new URI(API_URL + word.toLowerCase());
-            URL url = uri.toURL();
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-            conn.setConnectTimeout(3000);
-            conn.setReadTimeout(3000);
-
-            int code = conn.getResponseCode();
-            return code == 200;
-        } catch (Exception e) {
-            System.err.println("⚠️ GuessValidator API error: " + e.getMessage());
+        if (word == null || word.length() < WordDictionary.MIN_LENGTH || word.length() > WordDictionary.MAX_LENGTH) {
             return false;
         }
+        if (local.isValid(word)) return true;
+
+        WordValidator fb = fallback;
+        return fb != null && fb.isValid(word);
     }
-}
 
+    //plug in a different primary validator or network fallback (null disables the fallback)
+    public static void setValidator(WordValidator validator) {
+        if (validator == null) {
+            throw new IllegalArgumentException("Validator must not be null");
+        }
+        local = validator;
+    }
+    public static void setFallback(WordValidator validator) { fallback = validator; }
+
+    //persists the online lookup cache, if there is one (called when the game closes)
+    public static void saveCache() {
+        WordValidator fb = fallback;
+        if (fb instanceof CachingValidator) ((CachingValidator) fb).save();
+    }
+}
@@ -0,0 +1,102 @@
+package control;
+
+import metrics.Counter;
+import metrics.Metrics;
+import metrics.Timer;
+import model.Guess;
+import model.MultiBoardModel;
+import model.WordCodec;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+// MultiBoardController.java
+// Controller for multi-board games: keeps the key buffer, validates a finished word with
+// GuessValidator and plays it on every board of the MultiBoardModel. Guesses go through the
+// same GuessPipeline as WordleController and reach views as GameListener events. An accepted
+// Guess carries the word's pattern on the first board it was played on (the model has every
+// board's), and the secret reported when the game ends lists all boards' words.
+
+public class MultiBoardController {
+    private static final Timer SCORE_TIMER = Metrics.timer("multi.guess.score");
+    private static final Counter REJECTED_WORD = Metrics.counter("multi.guess.rejected");
+
+    private final MultiBoardModel model;
+    private String buffer = "";
+
+    private final GuessPipeline pipeline;
+
+    public MultiBoardController(MultiBoardModel model) {
+        if (model == null) {
+            throw new IllegalStateException("Model not initialized");
+        }
+        this.model = model;
+        this.pipeline = new GuessPipeline(model::getGuessCount);
+    }
+
+    public void onKeyPress(String key) {
+        String word = null;
+        int length = model.getWordLength();
+        synchronized (this) {
+            if (key.equals("ENTER") && buffer.length() == length) {
+                word = buffer;
+                buffer = "";
+            } else if (key.equals("BACKSPACE") && !buffer.isEmpty()) {
+                buffer = buffer.substring(0, buffer.length() - 1);
+            } else if (key.length() == 1 && Character.isLetter(key.charAt(0)) && buffer.length() < length) {
+                buffer = buffer + key.toUpperCase();
+            }
+        }
+        if (word != null) submitGuess(word.toLowerCase());
+    }
+
+    //validates and plays the word on every board, then publishes the outcome
+    public CompletableFuture<GuessResult> submitGuess(String word) {
+        return pipeline.submit(() -> processGuess(word), r -> { });
+    }
+
+    private GuessResult processGuess(String word) {
+        if (word == null || word.length() != model.getWordLength()) {
+            return new GuessResult(word, GuessResult.Status.WRONG_LENGTH, null);
+        }
+        if (!GuessValidator.isValid(word)) {
+            REJECTED_WORD.increment();
+            return new GuessResult(word, GuessResult.Status.INVALID_WORD, null);
+        }
+        synchronized (model) {
+            long start = System.nanoTime();
+            boolean played = model.makeGuess(word);
+            SCORE_TIMER.recordSince(start);
+            if (!played) return new GuessResult(word, GuessResult.Status.GAME_OVER, null);
+            int row = model.getGuessCount() - 1;
+            int board = 0;
+            while (model.getPattern(row, board) == MultiBoardModel.NOT_PLAYED) board++;
+            boolean won = model.isWon();
+            boolean lost = model.isLost();
+            return new GuessResult(word, GuessResult.Status.ACCEPTED,
+                    new Guess(WordCodec.encode(word), model.getPattern(row, board)), won, lost,
+                    won || lost ? secretWords() : null);
+        }
+    }
+
+    private String secretWords() {
+        StringBuilder sb = new StringBuilder();
+        for (int b = 0; b < model.getBoardCount(); b++) {
+            if (b > 0) sb.append(' ');
+            sb.append(model.getSecretWord(b));
+        }
+        return sb.toString();
+    }
+
+    public void setExecutors(Executor pipeline, Executor publisher) {
+        this.pipeline.setExecutors(pipeline, publisher);
+    }
+
+    public void setResultHandler(Consumer<GuessResult> handler) { pipeline.setResultHandler(handler); }
+    public void addListener(GameListener listener) { pipeline.addListener(listener); }
+    public void removeListener(GameListener listener) { pipeline.removeListener(listener); }
+    public int getPendingCount() { return pipeline.getPendingCount(); }
+    public synchronized String getBuffer() { return buffer; }
+    public MultiBoardModel getModel() { return model; }
+}
@@ -0,0 +1,63 @@
+package control;
+
+import metrics.Counter;
+import metrics.Metrics;
+import metrics.Timer;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URI;
+
+/**
+ * OnlineValidator
+ * Validates user-entered words using the Dictionary API.
+ * If offline or the API fails, it quietly rejects the guess
+ * (check() reports that case as ERROR rather than INVALID).
+ */
+
+public class OnlineValidator implements WordValidator {
+    private static final String API_URL = "https://api.dictionaryapi.dev/api/v2/entries/en/";
+    private static final Timer NET_TIMER = Metrics.timer("net.dictionary");
+    private static final Counter NET_ERRORS = Metrics.counter("net.dictionary.errors");
+    private final String apiUrl;
+
+    public OnlineValidator() {
+        this(API_URL);
+    }
+    public OnlineValidator(String apiUrl) { //base URL the word is appended to (e.g. a local stand-in)
+        this.apiUrl = apiUrl;
+    }
+
+    @Override
+    public boolean isValid(String word) {
+        return check(word) == Verdict.VALID;
+    }
+
+    /** Like isValid, but tells a definite "not a word" (404) apart from a network/API failure. */
+    public Verdict check(String word) {
+        if (word == null || word.isEmpty()) return Verdict.INVALID;
+
+        long start = System.nanoTime();
+        try {
+            URI uri = new URI(apiUrl + word.toLowerCase());
+            URL url = uri.toURL();
+            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+            conn.setRequestMethod("GET");
+            conn.setConnectTimeout(3000);
+            conn.setReadTimeout(3000);
+
+            int code = conn.getResponseCode();
+            if (code == 200) return Verdict.VALID;
+            if (code == 404) return Verdict.INVALID;
+            NET_ERRORS.increment();
+            System.err.println("⚠️ GuessValidator API returned HTTP " + code);
+            return Verdict.ERROR;
+        } catch (Exception e) {
+            NET_ERRORS.increment();
+            System.err.println("⚠️ GuessValidator API error: " + e.getMessage());
+            return Verdict.ERROR;
+        } finally {
+            NET_TIMER.recordSince(start);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package control;
+
+// Verdict.java
+// Three-way answer from a remote word lookup: a word, not a word, or "could not tell"
+// (timeout, HTTP error). Caches keep these apart so outages are not remembered as invalid.
+
+public enum Verdict {
+    VALID, INVALID, ERROR
+}
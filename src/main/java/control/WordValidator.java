@@ -0,0 +1,9 @@
+package control;
+
+// WordValidator.java
+// Strategy interface for deciding whether a submitted guess is an acceptable word.
+// GuessValidator composes implementations (local dictionary first, network as fallback).
+
+public interface WordValidator {
+    boolean isValid(String word);
+}
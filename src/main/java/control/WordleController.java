@@ -2,61 +2,146 @@ package control;
 
 import model.*;
 import control.GuessValidator;
+import io.GameHistory;
+import io.HistoryEntry;
+import metrics.Counter;
+import metrics.Metrics;
+import metrics.Timer;
+import solver.DecisionTree;
+import solver.EntropySolver;
+import solver.Hint;
+import solver.HintCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 // WordleController.java
 // Serves as the controller in the MVC architecture, processing user input,
 // passing guesses to the model, managing game state transitions, and handling save/load actions.
+// Submitted guesses go through a GuessPipeline (validate -> score -> persist) on a configurable
+// executor, with results published on another one; both default to the calling thread.
+// The controller has no UI code: views subscribe as GameListeners, and it may be driven
+// from several threads (the key buffer is guarded by the controller's lock).
 
 public class WordleController {
+    private static final Timer VALIDATE_TIMER = Metrics.timer("guess.validate");
+    private static final Timer SCORE_TIMER = Metrics.timer("guess.score");
+    private static final Timer PERSIST_TIMER = Metrics.timer("guess.persist");
+    private static final Counter REJECTED_LENGTH = Metrics.counter("guess.rejected.wrongLength");
+    private static final Counter REJECTED_WORD = Metrics.counter("guess.rejected.invalidWord");
+    private static final Counter REJECTED_OVER = Metrics.counter("guess.rejected.gameOver");
+    private static final Counter REJECTED_HARD = Metrics.counter("guess.rejected.hardMode");
+    private static final Counter HINT_TREE = Metrics.counter("hint.tree");
+    private static final Counter HINT_CACHED = Metrics.counter("hint.cached");
+    private static final Counter HINT_COMPUTED = Metrics.counter("hint.computed");
+
     private final WordleModel model;
     private String buffer = "";
-    private boolean guessState = false;
+    private volatile boolean guessState = false;
+
+    private final GuessPipeline pipeline;
+    private volatile boolean autoSave = false;
+    private volatile GameHistory history; // finished games are recorded here when set
+    private volatile HintCache hintCache; // shared normal-mode hints (the daily puzzle's), or null
 
     public WordleController(WordleModel model) {
         if (model == null) {
             throw new IllegalStateException("Model not initialized");
         }
         this.model = model;
+        this.pipeline = new GuessPipeline(model::getGuessCount);
     }
 
+    //submits a complete word, bypassing the keyboard buffer; the outcome goes to the listeners
     public void onGuess(String word) {
-        //when a guess is made guess count and pass word gets incremented to model
-        if (buffer.length() == 5) {
-            if (GuessValidator.isValid(buffer)) {
-                model.makeGuess(buffer);
-            } else {
-                // Trigger popup for invalid English word
-                javax.swing.JOptionPane.showMessageDialog(
-                        null,
-                        buffer.toUpperCase() + " is not a valid English word!",
-                        "Invalid Guess",
-                        javax.swing.JOptionPane.WARNING_MESSAGE
-                );
-            }
-        } else {
-            javax.swing.JOptionPane.showMessageDialog(
-                    null,
-                    "Please enter a 5-letter word.",
-                    "Invalid Input",
-                    javax.swing.JOptionPane.WARNING_MESSAGE
-            );
-        }
-
+        submitGuess(word == null ? null : word.toLowerCase());
     }
 
     public void onKeyPress(String key) {
         //processess user's input buffer and make guesses
-        if (buffer.length() <= 5) {
-            if (key.equals("ENTER") && buffer.length() == 5) {
-                onGuess(buffer);
-                guessState = true;
-                buffer = "";
+        String word = null;
+        int length = model.getWordLength();
+        synchronized (this) {
+            if (key.equals("ENTER") && buffer.length() == length) {
+                word = buffer;
+                buffer = ""; // player can keep typing the next word while this one is checked
             } else if (key.equals("BACKSPACE") && !buffer.isEmpty()) {
                 buffer = buffer.substring(0, buffer.length() - 1);
-            } else if (key.length() == 1 && Character.isLetter(key.charAt(0)) && buffer.length() < 5) {
+            } else if (key.length() == 1 && Character.isLetter(key.charAt(0)) && buffer.length() < length) {
                 buffer = buffer + key.toUpperCase();
             }
         }
+        if (word != null) submitGuess(word); // outside the lock: the pipeline may run on this thread
+    }
+
+    //runs validation, scoring and persistence on the pipeline executor, then publishes the result
+    public CompletableFuture<GuessResult> submitGuess(String word) {
+        return pipeline.submit(() -> processGuess(word), r -> {
+            if (r.isAccepted()) guessState = true;
+        });
+    }
+
+    private GuessResult processGuess(String word) {
+        if (word == null || word.length() != model.getWordLength()) {
+            REJECTED_LENGTH.increment();
+            return new GuessResult(word, GuessResult.Status.WRONG_LENGTH, null);
+        }
+        long start = System.nanoTime();
+        boolean valid = GuessValidator.isValid(word);
+        VALIDATE_TIMER.recordSince(start);
+        if (!valid) {
+            REJECTED_WORD.increment();
+            return new GuessResult(word, GuessResult.Status.INVALID_WORD, null);
+        }
+        GuessResult accepted;
+        HistoryEntry finished = null;
+        synchronized (model) {
+            if (model.isWon() || model.isLost()) {
+                REJECTED_OVER.increment();
+                return new GuessResult(word, GuessResult.Status.GAME_OVER, null);
+            }
+            String violation = model.isHardMode() ? model.hardModeViolation(word) : null;
+            if (violation != null) {
+                REJECTED_HARD.increment();
+                return GuessResult.rejected(word, GuessResult.Status.HARD_MODE, violation);
+            }
+            start = System.nanoTime();
+            model.makeGuess(word);
+            SCORE_TIMER.recordSince(start);
+            boolean won = model.isWon();
+            boolean lost = model.isLost();
+            accepted = new GuessResult(word, GuessResult.Status.ACCEPTED, model.getLastGuess(), won, lost,
+                    won || lost ? model.getSecretWord() : null);
+            if (history != null && (won || lost) && GameHistory.supports(model)) {
+                finished = HistoryEntry.of(model, model.getStartedAt(), System.currentTimeMillis());
+            }
+        }
+        start = System.nanoTime();
+        if (autoSave) model.saveLastGuess(); // one journal append, not a full rewrite
+        if (finished != null) history.add(finished);
+        if (autoSave || finished != null) PERSIST_TIMER.recordSince(start);
+        return accepted;
+    }
+
+    //the view plugs in a background executor for the pipeline and its own thread for results
+    public void setExecutors(Executor pipeline, Executor publisher) {
+        this.pipeline.setExecutors(pipeline, publisher);
+    }
+    public void setResultHandler(Consumer<GuessResult> handler) { pipeline.setResultHandler(handler); }
+    public void addListener(GameListener listener) { pipeline.addListener(listener); }
+    public void removeListener(GameListener listener) { pipeline.removeListener(listener); }
+    public void setAutoSave(boolean autoSave) { this.autoSave = autoSave; }
+    public void setHistory(GameHistory history) { this.history = history; }
+    public void setHintCache(HintCache hintCache) { this.hintCache = hintCache; }
+    public GameHistory getHistory() { return history; }
+    public int getPendingCount() { return pipeline.getPendingCount(); }
+
+    //starts the shared puzzle of the day; hints then come from the day's shared cache
+    public void startDaily(DailyPuzzleService.Day day) {
+        model.startDaily(day.getPuzzle());
+        hintCache = day.getHints();
+        if (autoSave) model.saveNewGame();
     }
 
     public void refreshGame() throws Exception { // reset game state for continuous play
@@ -64,6 +149,7 @@ public class WordleController {
             model.incrementGameScore();
         }
         model.resetGame();
+        if (autoSave) model.saveNewGame();
     }
 
     //these are getters and win and loss checkers for UI to handle refreshing/game flow
@@ -71,7 +157,15 @@ public class WordleController {
     public boolean isLost() { return model.isLost(); }
     public int getGameScore() { return model.getGameScore(); }
     public int getGuessCount() { return model.getGuessCount(); }
-    public String getBuffer() { return buffer; }
+    public int getGameNumber() { return model.getGameNumber(); }
+    public int getWordLength() { return model.getWordLength(); }
+    public int getMaxGuesses() { return model.getMaxGuesses(); }
+    public boolean isHardMode() { return model.isHardMode(); }
+    public void setHardMode(boolean hardMode) { model.setHardMode(hardMode); }
+    public boolean isAdversarial() { return model.isAdversarial(); }
+    public void setAdversarial(boolean adversarial) { model.setAdversarial(adversarial); }
+    public int getRemainingCount() { return model.getRemainingCount(); }
+    public synchronized String getBuffer() { return buffer; }
     public boolean getGuessState() { return guessState; }
     public void resetGuessState() { guessState = false; }
 
@@ -79,6 +173,42 @@ public class WordleController {
     public Guess getLastGuess() { return model.getLastGuess(); }
     public String getSecretWord() { return model.getSecretWord(); }
 
+    //computes the best next guess on a background pool; completes with null if no word fits
+    public CompletableFuture<Hint> requestHint() {
+        CandidateSet snapshot;
+        HardModeConstraints rules;
+        int wordLength;
+        synchronized (model) {
+            // games that followed the precomputed tree so far are answered by walking it
+            DecisionTree tree = model.isHardMode() ? null : DecisionTree.getDefault();
+            if (tree != null && model.getCandidates().getDictionary() == tree.getDictionary()) {
+                Hint hint = tree.next(model.getGuesses(), model.getGuessCount());
+                if (hint != null) {
+                    HINT_TREE.increment();
+                    return CompletableFuture.completedFuture(hint);
+                }
+            }
+            snapshot = model.copyCandidates();
+            rules = model.isHardMode() ? model.copyConstraints() : null; // hard mode hints are legal guesses
+            wordLength = model.getWordLength();
+        }
+        HintCache cache = rules == null ? hintCache : null; // cached hints are normal-mode hints
+        if (cache != null) {
+            Hint cached = cache.get(snapshot);
+            if (cached != null) {
+                HINT_CACHED.increment();
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+        HINT_COMPUTED.increment();
+        // hints need a pattern table, so 6+ letter games complete exceptionally
+        return CompletableFuture.supplyAsync(() -> {
+            Hint hint = EntropySolver.forLength(wordLength).suggest(snapshot, rules);
+            if (cache != null) cache.put(snapshot, hint);
+            return hint;
+        });
+    }
+
     //saves and loads
     public void saveGame() { model.saveGame(); }
     public void loadGame() { model.loadGame(); }
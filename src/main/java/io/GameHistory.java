@@ -0,0 +1,233 @@
+package io;
+
+import model.WordDictionary;
+import model.WordleModel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameHistory
+ * -----------
+ * Persistent record of every finished game for one player profile.
+ * Games are appended as fixed-size records to "<profile>.games", so game i is found by
+ * offset alone and reads go through a memory-mapped view instead of loading the history
+ * onto the heap. Aggregates (GameStats) are updated as each game is added and written to
+ * "<profile>.stats"; if that file is missing, stale or from another dictionary it is
+ * rebuilt with a single pass over the mapped records.
+ *
+ * Record: startedAt, finishedAt, secret, guess count, won, 6 pattern bytes, 6 packed guesses
+ */
+public class GameHistory implements AutoCloseable {
+    public static final String DEFAULT_DIR = "wordle_history";
+    public static final String DEFAULT_PROFILE = "default";
+
+    private static final int MAGIC = 0x57484953; // "WHIS"
+    private static final int STATS_MAGIC = 0x57535453; // "WSTS"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_BYTES = 80;
+    private static final int MAX_GUESSES = 6;
+
+    private final String profile;
+    private final Path gamesFile;
+    private final Path statsFile;
+    private final FileChannel channel;
+    private final WordDictionary dictionary;
+    private final GameStats stats;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+    private MappedByteBuffer view; // remapped when the file has grown
+    private int count;
+
+    private GameHistory(String profile, Path dir, WordDictionary dictionary) throws IOException {
+        if (!profile.matches("[A-Za-z0-9_.-]+")) {
+            throw new IllegalArgumentException("Profile names may only use letters, digits, '.', '_' and '-': " + profile);
+        }
+        Files.createDirectories(dir);
+        this.profile = profile;
+        this.gamesFile = dir.resolve(profile + ".games");
+        this.statsFile = dir.resolve(profile + ".stats");
+        this.channel = FileChannel.open(gamesFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.dictionary = dictionary;
+        this.stats = new GameStats(dictionary);
+
+        if (channel.size() < HEADER_BYTES) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_BYTES).flip();
+            channel.write(header, 0);
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            channel.read(header, 0);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(8) != RECORD_BYTES) {
+                channel.close();
+                throw new IOException("Not a Wordle history file: " + gamesFile);
+            }
+        }
+        // a partially written last record (crash during append) is dropped
+        count = (int) ((channel.size() - HEADER_BYTES) / RECORD_BYTES);
+        channel.truncate(HEADER_BYTES + (long) count * RECORD_BYTES);
+
+        if (!loadStats()) {
+            for (int i = 0; i < count; i++) stats.add(get(i));
+            saveStats();
+        }
+    }
+
+    /** Opens (creating if needed) the history of a profile in dir. */
+    public static GameHistory open(Path dir, String profile) {
+        return open(dir, profile, WordDictionary.getDefault());
+    }
+
+    public static GameHistory open(Path dir, String profile, WordDictionary dictionary) {
+        try {
+            return new GameHistory(profile, dir, dictionary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** History for -Dwordle.profile (default "default") under wordle_history/. */
+    public static GameHistory openDefault() {
+        return open(Paths.get(DEFAULT_DIR), System.getProperty("wordle.profile", DEFAULT_PROFILE));
+    }
+
+    /** Names of all profiles that have a history in dir. */
+    public static List<String> profiles(Path dir) {
+        List<String> names = new ArrayList<>();
+        if (!Files.isDirectory(dir)) return names;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.games")) {
+            for (Path p : files) {
+                String name = p.getFileName().toString();
+                names.add(name.substring(0, name.length() - ".games".length()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        names.sort(null);
+        return names;
+    }
+
+    /** Histories hold classic games only: 5 letters and at most 6 guesses. */
+    public static boolean supports(WordleModel model) {
+        return model.getWordLength() == WordDictionary.DEFAULT_LENGTH && model.getMaxGuesses() <= MAX_GUESSES;
+    }
+
+    /** Appends a finished game and updates the statistics. */
+    public synchronized void add(HistoryEntry entry) {
+        if (entry.getGuessCount() > MAX_GUESSES) {
+            throw new IllegalArgumentException("At most " + MAX_GUESSES + " guesses per game");
+        }
+        record.clear();
+        record.putLong(entry.getStartedAt()).putLong(entry.getFinishedAt()).putLong(entry.getSecret())
+                .put((byte) entry.getGuessCount()).put((byte) (entry.isWon() ? 1 : 0));
+        for (int i = 0; i < MAX_GUESSES; i++) {
+            record.put((byte) (i < entry.getGuessCount() ? entry.getPattern(i) : 0));
+        }
+        for (int i = 0; i < MAX_GUESSES; i++) {
+            record.putLong(i < entry.getGuessCount() ? entry.getPackedGuess(i) : 0);
+        }
+        record.flip();
+        try {
+            long pos = HEADER_BYTES + (long) count * RECORD_BYTES;
+            while (record.hasRemaining()) pos += channel.write(record, pos);
+            count++;
+            stats.add(entry);
+            saveStats();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Game number i (0 = oldest), read from the mapped file. */
+    public synchronized HistoryEntry get(int i) {
+        if (i < 0 || i >= count) throw new IndexOutOfBoundsException(i);
+        ByteBuffer buf = view();
+        int base = HEADER_BYTES + i * RECORD_BYTES;
+        int guessCount = buf.get(base + 24);
+        long[] guesses = new long[guessCount];
+        int[] patterns = new int[guessCount];
+        for (int g = 0; g < guessCount; g++) {
+            patterns[g] = buf.get(base + 26 + g) & 0xFF;
+            guesses[g] = buf.getLong(base + 32 + 8 * g);
+        }
+        return new HistoryEntry(buf.getLong(base), buf.getLong(base + 8), buf.getLong(base + 16),
+                guesses, patterns, buf.get(base + 25) != 0);
+    }
+
+    /** The most recent games, newest first. */
+    public synchronized List<HistoryEntry> recent(int limit) {
+        List<HistoryEntry> games = new ArrayList<>();
+        for (int i = count - 1; i >= 0 && games.size() < limit; i--) games.add(get(i));
+        return games;
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    /** Live statistics; read them while holding this history's lock if games may be added concurrently. */
+    public GameStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        view = null;
+    }
+
+    private ByteBuffer view() {
+        long size = HEADER_BYTES + (long) count * RECORD_BYTES;
+        if (view == null || view.capacity() < size) {
+            try {
+                view = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return view;
+    }
+
+    // stats header: magic, version, number of games covered, dictionary size + fingerprint
+    private boolean loadStats() throws IOException {
+        if (!Files.exists(statsFile)) return false;
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(statsFile));
+        if (buf.remaining() != 24 + stats.byteSize()
+                || buf.getInt() != STATS_MAGIC || buf.getInt() != VERSION || buf.getInt() != count
+                || buf.getInt() != dictionary.size() || buf.getLong() != dictionary.fingerprint()) {
+            return false;
+        }
+        stats.readFrom(buf);
+        return true;
+    }
+
+    private void saveStats() throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(24 + stats.byteSize());
+        buf.putInt(STATS_MAGIC).putInt(VERSION).putInt(count)
+                .putInt(dictionary.size()).putLong(dictionary.fingerprint());
+        stats.writeTo(buf);
+        Path tmp = statsFile.resolveSibling(statsFile.getFileName() + ".tmp");
+        Files.write(tmp, buf.array());
+        Files.move(tmp, statsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
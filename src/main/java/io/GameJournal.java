@@ -0,0 +1,241 @@
+package io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * GameJournal
+ * -----------
+ * Crash-safe binary persistence: a snapshot file plus an append-only journal of events.
+ * Each guess is one fixed-size record appended to the journal (microseconds, no rewrite).
+ * Every SNAPSHOT_EVERY records the current state is written to a temp snapshot, fsynced and
+ * atomically renamed over the old one, then the journal is truncated. Records carry a
+ * sequence number and CRC: on load, records already covered by the snapshot are skipped
+ * and a torn final record is ignored, so a crash never loses committed state or corrupts it.
+ *
+ * Snapshot: magic, version, lastSeq, score, secret, maxGuesses, flags, count, count x (word, pattern), crc
+ * Record:   seq, type, payload (GUESS: word + pattern, NEW_GAME: secret + score + maxGuesses + flags), crc
+ * Flags bit 0 marks an adversarial game, whose secret is only the adversary's stand-in.
+ * Patterns are shorts (up to 3^8 for 8-letter words). Only the current version is read; a
+ * snapshot from any other version is rejected rather than half-read.
+ */
+public class GameJournal {
+    public static final String SNAPSHOT_FILE = "wordle_save.bin";
+    public static final String JOURNAL_FILE = "wordle_save.journal";
+
+    private static final int MAGIC = 0x57534E50; // "WSNP"
+    private static final int VERSION = 3;
+    private static final int SNAPSHOT_EVERY = 64;
+
+    private static final byte GUESS = 3;
+    private static final byte NEW_GAME = 4;
+    private static final int GUESS_RECORD = 8 + 1 + 8 + 2 + 4;
+    private static final int NEW_GAME_RECORD = 8 + 1 + 8 + 4 + 1 + 1 + 4;
+    private static final byte ADVERSARIAL = 1;
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final boolean fsync;
+    private final ByteBuffer record = ByteBuffer.allocate(32);
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel journal; // opened on first append
+    private SavedGame current; // mirror of what is on disk (snapshot + journal)
+    private long seq;
+    private int sinceSnapshot;
+
+    private static class Holder {
+        static final GameJournal DEFAULT = new GameJournal(Paths.get(SNAPSHOT_FILE), Paths.get(JOURNAL_FILE),
+                Boolean.getBoolean("wordle.journal.fsync"));
+    }
+
+    public GameJournal(Path snapshotFile, Path journalFile, boolean fsync) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = journalFile;
+        this.fsync = fsync;
+    }
+
+    public static GameJournal getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    /** True if there is anything on disk to load. */
+    public synchronized boolean exists() {
+        return Files.exists(snapshotFile) || Files.exists(journalFile);
+    }
+
+    /** The state the last session ended in, or null if nothing was saved. */
+    public synchronized SavedGame load() throws IOException {
+        closeJournal();
+        current = null;
+        seq = 0;
+        if (Files.exists(snapshotFile)) readSnapshot();
+        long validBytes = Files.exists(journalFile) ? replayJournal() : 0;
+        if (Files.exists(journalFile) && Files.size(journalFile) > validBytes) {
+            try (FileChannel ch = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+                ch.truncate(validBytes); // drop a torn record so new ones append cleanly
+            }
+        }
+        return current;
+    }
+
+    /** Writes the full state as a new snapshot and empties the journal. */
+    public synchronized void writeSnapshot(SavedGame state) throws IOException {
+        current = state;
+        Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        ByteBuffer buf = ByteBuffer.allocate(4 + 4 + 8 + 4 + 8 + 1 + 1 + 4 + state.guessCount * 10 + 4);
+        buf.putInt(MAGIC).putInt(VERSION).putLong(seq).putInt(state.gameScore).putLong(state.secret)
+                .put((byte) state.maxGuesses).put(flags(state.adversarial)).putInt(state.guessCount);
+        for (int i = 0; i < state.guessCount; i++) {
+            buf.putLong(state.guesses[i]).putShort((short) state.patterns[i]);
+        }
+        crc.reset();
+        crc.update(buf.array(), 0, buf.position());
+        buf.putInt((int) crc.getValue());
+        buf.flip();
+
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buf.hasRemaining()) ch.write(buf);
+            ch.force(true);
+        }
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // everything up to seq is now in the snapshot
+        openJournal().truncate(0);
+        sinceSnapshot = 0;
+    }
+
+    /** Appends one guess; returns false if the journal is not in sync with the caller's game. */
+    public synchronized boolean appendGuess(long secret, boolean adversarial, int guessIndex, long packed, int pattern)
+            throws IOException {
+        if (current == null || current.secret != secret || current.adversarial != adversarial
+                || current.guessCount != guessIndex) {
+            return false;
+        }
+        record.clear();
+        record.putLong(++seq).put(GUESS).putLong(packed).putShort((short) pattern);
+        append();
+        current.addGuess(packed, pattern);
+        return true;
+    }
+
+    /** Appends the start of a new game (new secret, guess limit and mode, possibly updated score). */
+    public synchronized void appendNewGame(long secret, int gameScore, int maxGuesses, boolean adversarial)
+            throws IOException {
+        if (current == null) {
+            writeSnapshot(new SavedGame(gameScore, secret, maxGuesses, adversarial));
+            return;
+        }
+        record.clear();
+        record.putLong(++seq).put(NEW_GAME).putLong(secret).putInt(gameScore).put((byte) maxGuesses)
+                .put(flags(adversarial));
+        current = new SavedGame(gameScore, secret, maxGuesses, adversarial);
+        append();
+    }
+
+    private void append() throws IOException {
+        crc.reset();
+        crc.update(record.array(), 0, record.position());
+        record.putInt((int) crc.getValue());
+        record.flip();
+        FileChannel ch = openJournal();
+        while (record.hasRemaining()) ch.write(record);
+        if (fsync) ch.force(false);
+        if (++sinceSnapshot >= SNAPSHOT_EVERY) writeSnapshot(current);
+    }
+
+    private FileChannel openJournal() throws IOException {
+        if (journal == null) {
+            journal = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return journal;
+    }
+
+    public synchronized void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private void readSnapshot() throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+        if (buf.remaining() < 38 || buf.getInt() != MAGIC) {
+            throw new IOException("Not a Wordle save file: " + snapshotFile);
+        }
+        int version = buf.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version " + version + ": " + snapshotFile);
+        }
+        crc.reset();
+        crc.update(buf.array(), 0, buf.limit() - 4);
+        if ((int) crc.getValue() != buf.getInt(buf.limit() - 4)) {
+            throw new IOException("Save file is corrupt: " + snapshotFile);
+        }
+        seq = buf.getLong();
+        int score = buf.getInt();
+        long secret = buf.getLong();
+        byte maxGuesses = buf.get();
+        SavedGame state = new SavedGame(score, secret, maxGuesses, (buf.get() & ADVERSARIAL) != 0);
+        int count = buf.getInt();
+        for (int i = 0; i < count; i++) {
+            state.addGuess(buf.getLong(), buf.getShort() & 0xFFFF);
+        }
+        current = state;
+    }
+
+    // applies records newer than the snapshot; returns the length of the valid prefix
+    private long replayJournal() throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(journalFile));
+        long valid = 0;
+        while (buf.remaining() >= 9) {
+            int start = buf.position();
+            long recSeq = buf.getLong();
+            byte type = buf.get();
+            int size = recordSize(type);
+            if (size < 0 || buf.remaining() < size - 9) break;
+            crc.reset();
+            crc.update(buf.array(), start, size - 4);
+            buf.position(start + size - 4);
+            if ((int) crc.getValue() != buf.getInt()) break;
+            buf.position(start + 9);
+
+            if (type == GUESS) {
+                long packed = buf.getLong();
+                int pattern = buf.getShort() & 0xFFFF;
+                if (recSeq > seq && current != null) current.addGuess(packed, pattern);
+            } else {
+                long secret = buf.getLong();
+                int score = buf.getInt();
+                int maxGuesses = buf.get();
+                boolean adversarial = (buf.get() & ADVERSARIAL) != 0;
+                if (recSeq > seq) current = new SavedGame(score, secret, maxGuesses, adversarial);
+            }
+            buf.getInt(); // crc
+            seq = Math.max(seq, recSeq);
+            valid = buf.position();
+        }
+        return valid;
+    }
+
+    private static byte flags(boolean adversarial) {
+        return adversarial ? ADVERSARIAL : 0;
+    }
+
+    private static int recordSize(byte type) {
+        switch (type) {
+            case GUESS: return GUESS_RECORD;
+            case NEW_GAME: return NEW_GAME_RECORD;
+            default: return -1;
+        }
+    }
+}
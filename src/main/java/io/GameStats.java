@@ -0,0 +1,114 @@
+package io;
+
+import model.WordDictionary;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// GameStats.java
+// Aggregates over a profile's history, kept up to date one game at a time so that
+// nothing has to be rescanned when stats are shown: totals, streaks, the guess
+// distribution (index 1..6 = won in that many guesses, index 0 = lost) and a per-word
+// index aligned to the dictionary (plays, wins, guesses used) for difficulty queries.
+
+public class GameStats {
+    private final WordDictionary dictionary;
+    private int games;
+    private int wins;
+    private int currentStreak;
+    private int maxStreak;
+    private final int[] distribution = new int[7];
+    private final int[] wordPlays;
+    private final int[] wordWins;
+    private final int[] wordGuesses; // guesses used, a loss counts as 7
+
+    GameStats(WordDictionary dictionary) {
+        this.dictionary = dictionary;
+        this.wordPlays = new int[dictionary.size()];
+        this.wordWins = new int[dictionary.size()];
+        this.wordGuesses = new int[dictionary.size()];
+    }
+
+    void add(HistoryEntry entry) {
+        games++;
+        if (entry.isWon()) {
+            wins++;
+            currentStreak++;
+            maxStreak = Math.max(maxStreak, currentStreak);
+            distribution[Math.min(entry.getGuessCount(), 6)]++;
+        } else {
+            currentStreak = 0;
+            distribution[0]++;
+        }
+        int w = dictionary.indexOf(entry.getSecret());
+        if (w >= 0) {
+            wordPlays[w]++;
+            if (entry.isWon()) wordWins[w]++;
+            wordGuesses[w] += entry.isWon() ? entry.getGuessCount() : 7;
+        }
+    }
+
+    public int getGames() { return games; }
+    public int getWins() { return wins; }
+    public int getCurrentStreak() { return currentStreak; }
+    public int getMaxStreak() { return maxStreak; }
+    public double getWinRate() { return games == 0 ? 0 : (double) wins / games; }
+    public int[] getDistribution() { return distribution.clone(); }
+
+    public double getAverageGuesses() {
+        long total = 0;
+        for (int i = 1; i < distribution.length; i++) total += (long) i * distribution[i];
+        return wins == 0 ? 0 : (double) total / wins;
+    }
+
+    public int getPlays(String word) {
+        int w = dictionary.indexOf(word);
+        return w < 0 ? 0 : wordPlays[w];
+    }
+
+    /** Average guesses needed for this secret word (a loss counts as 7), or 0 if never played. */
+    public double getDifficulty(String word) {
+        int w = dictionary.indexOf(word);
+        return w < 0 || wordPlays[w] == 0 ? 0 : (double) wordGuesses[w] / wordPlays[w];
+    }
+
+    /** Up to limit played words, hardest first. */
+    public List<String> hardestWords(int limit) {
+        List<Integer> played = new ArrayList<>();
+        for (int w = 0; w < wordPlays.length; w++) {
+            if (wordPlays[w] > 0) played.add(w);
+        }
+        played.sort(Comparator.comparingDouble((Integer w) -> -(double) wordGuesses[w] / wordPlays[w])
+                .thenComparingInt(w -> -wordPlays[w]));
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, played.size()); i++) words.add(dictionary.wordAt(played.get(i)));
+        return words;
+    }
+
+    int byteSize() {
+        return 4 * (4 + distribution.length + 3 * wordPlays.length);
+    }
+
+    void writeTo(ByteBuffer buf) {
+        buf.putInt(games).putInt(wins).putInt(currentStreak).putInt(maxStreak);
+        for (int d : distribution) buf.putInt(d);
+        for (int i = 0; i < wordPlays.length; i++) {
+            buf.putInt(wordPlays[i]).putInt(wordWins[i]).putInt(wordGuesses[i]);
+        }
+    }
+
+    void readFrom(ByteBuffer buf) {
+        games = buf.getInt();
+        wins = buf.getInt();
+        currentStreak = buf.getInt();
+        maxStreak = buf.getInt();
+        for (int i = 0; i < distribution.length; i++) distribution[i] = buf.getInt();
+        for (int i = 0; i < wordPlays.length; i++) {
+            wordPlays[i] = buf.getInt();
+            wordWins[i] = buf.getInt();
+            wordGuesses[i] = buf.getInt();
+        }
+    }
+}
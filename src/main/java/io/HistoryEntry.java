@@ -0,0 +1,58 @@
+package io;
+
+import model.Guess;
+import model.WordCodec;
+import model.WordleModel;
+
+// HistoryEntry.java
+// One finished game as stored in a profile's history: secret word, guesses with their
+// feedback patterns, outcome and start/finish timestamps (epoch millis).
+
+public class HistoryEntry {
+    private final long startedAt;
+    private final long finishedAt;
+    private final long secret;
+    private final long[] guesses;
+    private final int[] patterns;
+    private final boolean won;
+
+    HistoryEntry(long startedAt, long finishedAt, long secret, long[] guesses, int[] patterns, boolean won) {
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.secret = secret;
+        this.guesses = guesses;
+        this.patterns = patterns;
+        this.won = won;
+    }
+
+    /** Captures a finished game from the model. */
+    public static HistoryEntry of(WordleModel model, long startedAt, long finishedAt) {
+        synchronized (model) {
+            int count = model.getGuessCount();
+            long[] guesses = new long[count];
+            int[] patterns = new int[count];
+            for (int i = 0; i < count; i++) {
+                Guess g = model.getGuesses()[i];
+                guesses[i] = g.getPacked();
+                patterns[i] = g.getPattern();
+            }
+            return new HistoryEntry(startedAt, finishedAt, WordCodec.encode(model.getSecretWord()),
+                    guesses, patterns, model.isWon());
+        }
+    }
+
+    public long getStartedAt() { return startedAt; }
+    public long getFinishedAt() { return finishedAt; }
+    public String getSecretWord() { return WordCodec.decode(secret); }
+    public long getSecret() { return secret; }
+    public int getGuessCount() { return guesses.length; }
+    public String getGuess(int i) { return WordCodec.decode(guesses[i]); }
+    public long getPackedGuess(int i) { return guesses[i]; }
+    public int getPattern(int i) { return patterns[i]; }
+    public boolean isWon() { return won; }
+
+    @Override
+    public String toString() {
+        return getSecretWord() + (won ? " won in " + guesses.length : " lost");
+    }
+}
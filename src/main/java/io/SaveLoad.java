@@ -1,23 +1,114 @@
 package io;
 
 import com.google.gson.Gson;
+import model.Guess;
+import model.WordCodec;
 import model.WordleModel;
 
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 
 // SaveLoad.java
-// Manages saving and loading of game data using JSON serialization through Gson.
-// Stores the secret word, score, and past guesses to maintain persistence between sessions.
+// Manages saving and loading of game data. Games are stored in a compact binary snapshot
+// plus an append-only journal (see GameJournal), so each guess costs one small append.
+// The older JSON format (Gson) is still supported for import/export and is read
+// automatically when no binary save exists yet.
 
 
 public class SaveLoad {
+    public static final String SAVE_FILE = "wordle_save.json";
 
     public static void saveState(WordleModel model) {
+        saveState(model, GameJournal.getDefault());
+    }
+
+    public static void loadState(WordleModel model) {
+        GameJournal journal = GameJournal.getDefault();
+        if (!journal.exists() && new File(SAVE_FILE).exists()) {
+            loadState(model, new File(SAVE_FILE)); // first run after upgrading from the JSON save
+            saveState(model, journal);
+            return;
+        }
+        loadState(model, journal);
+    }
+
+    public static void recordGuess(WordleModel model) {
+        recordGuess(model, GameJournal.getDefault());
+    }
+
+    public static void recordNewGame(WordleModel model) {
+        recordNewGame(model, GameJournal.getDefault());
+    }
+
+    public static synchronized void saveState(WordleModel model, GameJournal journal) {
+        try {
+            journal.writeSnapshot(toSavedGame(model));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static synchronized void loadState(WordleModel model, GameJournal journal) {
+        try {
+            SavedGame saved = journal.load();
+            if (saved == null) return;
+            model.startGame(WordCodec.decode(saved.getSecret()), saved.getMaxGuesses());
+            model.setAdversarial(saved.isAdversarial());
+            model.setGameScore(saved.getGameScore());
+            for (int i = 0; i < saved.getGuessCount(); i++) {
+                model.restoreGuess(new Guess(saved.getGuess(i), saved.getPattern(i)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // appends the model's latest guess; falls back to a full snapshot if the journal lost track
+    public static synchronized void recordGuess(WordleModel model, GameJournal journal) {
+        try {
+            Guess last = model.getLastGuess();
+            if (last == null) return;
+            long secret = WordCodec.encode(model.getSecretWord());
+            if (!journal.appendGuess(secret, model.isAdversarial(), model.getGuessCount() - 1, last.getPacked(),
+                    last.getPattern())) {
+                journal.writeSnapshot(toSavedGame(model));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static synchronized void recordNewGame(WordleModel model, GameJournal journal) {
+        try {
+            synchronized (model) {
+                journal.appendNewGame(WordCodec.encode(model.getSecretWord()), model.getGameScore(),
+                        model.getMaxGuesses(), model.isAdversarial());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static SavedGame toSavedGame(WordleModel model) {
+        synchronized (model) { // consistent view while the pipeline may be guessing
+            SavedGame state = new SavedGame(model.getGameScore(), WordCodec.encode(model.getSecretWord()),
+                    model.getMaxGuesses(), model.isAdversarial());
+            for (int i = 0; i < model.getGuessCount(); i++) {
+                Guess g = model.getGuesses()[i];
+                state.addGuess(g.getPacked(), g.getPattern());
+            }
+            return state;
+        }
+    }
+
+    // JSON export/import, kept for backward compatibility with wordle_save.json
+
+    public static synchronized void saveState(WordleModel model, File file) {
         Gson gson = new Gson();
         List<String> guesses = new ArrayList<String>(); // use explicit type if Java 6
 
@@ -27,24 +118,25 @@ public class SaveLoad {
             }
         }
 
-        SaveState state = new SaveState(model.getGameScore(), model.getSecretWord(), guesses);
+        SaveState state = new SaveState(model.getGameScore(), model.getSecretWord(), guesses, model.getMaxGuesses(),
+                model.isAdversarial());
 
-        try (FileWriter fw = new FileWriter("wordle_save.json")) {
+        try (FileWriter fw = new FileWriter(file)) {
             gson.toJson(state, fw);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    public static void loadState(WordleModel model) {
+    public static synchronized void loadState(WordleModel model, File file) {
         Gson gson = new Gson();
-        File file = new File("wordle_save.json");
 
         if (file.exists()) {
             try (FileReader fr = new FileReader(file)) {
                 SaveState state = gson.fromJson(fr, SaveState.class);
 
-                model.setSecretWord(state.secretWord);
+                model.startGame(state.secretWord, state.maxGuesses > 0 ? state.maxGuesses : model.getMaxGuesses());
+                model.setAdversarial(state.adversarial); // replaying the guesses narrows the same way
                 model.setGameScore(state.gameScore);
 
                 if (state.guessesMade != null) {
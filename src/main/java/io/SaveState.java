@@ -5,15 +5,30 @@ import java.util.List;
 // SaveState.java
 // Data transfer object used for serializing and deserializing the game state,
 // containing the current score, secret word, and list of previous guesses.
+// For an adversarial game the secret word is only the adversary's stand-in.
 
 public class SaveState {
     int gameScore;
     String secretWord;
     List<String> guessesMade;
+    int maxGuesses; // absent (0) in saves from before configurable guess limits
+    boolean adversarial; // absent (false) in saves from before adversarial mode
 
-    public SaveState(int gameScore, String secretWord, List<String> guessesMade) {
+    public SaveState(int gameScore, String secretWord, List<String> guessesMade, int maxGuesses) {
+        this(gameScore, secretWord, guessesMade, maxGuesses, false);
+    }
+
+    public SaveState(int gameScore, String secretWord, List<String> guessesMade, int maxGuesses, boolean adversarial) {
         this.gameScore = gameScore;
         this.secretWord = secretWord;
         this.guessesMade = guessesMade;
+        this.maxGuesses = maxGuesses;
+        this.adversarial = adversarial;
     }
+
+    public int getGameScore() { return gameScore; }
+    public String getSecretWord() { return secretWord; }
+    public List<String> getGuessesMade() { return guessesMade; }
+    public int getMaxGuesses() { return maxGuesses; }
+    public boolean isAdversarial() { return adversarial; }
 }
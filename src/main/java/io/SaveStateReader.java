@@ -0,0 +1,57 @@
+package io;
+
+import com.google.gson.Gson;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// SaveStateReader.java
+// Streams SaveState records (the JSON save format) one at a time, so a dump of millions of
+// games is never held in memory. Accepts JSON Lines / concatenated objects or one big array.
+
+public class SaveStateReader implements Closeable {
+    private static final Gson GSON = new Gson();
+
+    private final JsonReader json;
+    private boolean inArray;
+
+    public SaveStateReader(Reader reader) {
+        this.json = new JsonReader(reader);
+        json.setStrictness(Strictness.LENIENT); // several top-level values
+    }
+
+    public static SaveStateReader open(Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return new SaveStateReader(reader);
+    }
+
+    /** The next saved game, or null at the end of the input. */
+    public SaveState next() throws IOException {
+        JsonToken token = json.peek();
+        if (token == JsonToken.BEGIN_ARRAY && !inArray) {
+            json.beginArray();
+            inArray = true;
+            token = json.peek();
+        }
+        if (token == JsonToken.END_ARRAY && inArray) {
+            json.endArray();
+            inArray = false;
+            token = json.peek();
+        }
+        if (token == JsonToken.END_DOCUMENT) return null;
+        return GSON.fromJson(json, SaveState.class);
+    }
+
+    @Override
+    public void close() throws IOException {
+        json.close();
+    }
+}
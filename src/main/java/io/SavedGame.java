@@ -0,0 +1,42 @@
+package io;
+
+import java.util.Arrays;
+
+// SavedGame.java
+// In-memory form of the binary save: score, packed secret word (see model.WordCodec),
+// the game's guess limit and mode, and each guess as a packed word plus its feedback pattern.
+
+public class SavedGame {
+    int gameScore;
+    long secret;
+    int maxGuesses;
+    boolean adversarial; // secret is the adversary's stand-in, not a fixed answer
+    long[] guesses = new long[6];
+    int[] patterns = new int[6];
+    int guessCount;
+
+    SavedGame(int gameScore, long secret, int maxGuesses, boolean adversarial) {
+        this.gameScore = gameScore;
+        this.secret = secret;
+        this.maxGuesses = maxGuesses;
+        this.adversarial = adversarial;
+    }
+
+    void addGuess(long packed, int pattern) {
+        if (guessCount == guesses.length) {
+            guesses = Arrays.copyOf(guesses, guessCount * 2);
+            patterns = Arrays.copyOf(patterns, guessCount * 2);
+        }
+        guesses[guessCount] = packed;
+        patterns[guessCount] = pattern;
+        guessCount++;
+    }
+
+    public int getGameScore() { return gameScore; }
+    public long getSecret() { return secret; }
+    public int getMaxGuesses() { return maxGuesses; }
+    public boolean isAdversarial() { return adversarial; }
+    public int getGuessCount() { return guessCount; }
+    public long getGuess(int i) { return guesses[i]; }
+    public int getPattern(int i) { return patterns[i]; }
+}
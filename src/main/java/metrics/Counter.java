@@ -0,0 +1,27 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Counter.java
+// Monotonic event counter on a striped LongAdder, so hot paths on many threads
+// increment without contending on one cache line.
+
+public final class Counter implements CounterMXBean {
+    private final LongAdder count = new LongAdder();
+
+    Counter() {
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long n) {
+        count.add(n);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+}
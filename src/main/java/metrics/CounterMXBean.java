@@ -0,0 +1,8 @@
+package metrics;
+
+// CounterMXBean.java
+// JMX view of a Counter.
+
+public interface CounterMXBean {
+    long getCount();
+}
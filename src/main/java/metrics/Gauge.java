@@ -0,0 +1,23 @@
+package metrics;
+
+import java.util.function.DoubleSupplier;
+
+// Gauge.java
+// A value computed when read (hit rates, pool sizes); costs nothing on the hot path.
+
+public final class Gauge implements GaugeMXBean {
+    private volatile DoubleSupplier source;
+
+    Gauge(DoubleSupplier source) {
+        this.source = source;
+    }
+
+    void setSource(DoubleSupplier source) {
+        this.source = source;
+    }
+
+    @Override
+    public double getValue() {
+        return source.getAsDouble();
+    }
+}
@@ -0,0 +1,8 @@
+package metrics;
+
+// GaugeMXBean.java
+// JMX view of a Gauge (a value sampled on read, e.g. a cache hit rate).
+
+public interface GaugeMXBean {
+    double getValue();
+}
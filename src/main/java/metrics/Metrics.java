@@ -0,0 +1,94 @@
+package metrics;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Metrics
+ * -------
+ * Process-wide registry of named timers, counters and gauges. Each metric is created once
+ * (look it up at class init and keep it in a static field, so the hot path never touches
+ * the map) and published as an MXBean under "wordle:type=Timer|Counter|Gauge,name=...",
+ * so jconsole/VisualVM can watch a running game or server. Set
+ * -Dwordle.metrics.logSeconds=N to also print a snapshot to stderr every N seconds.
+ *
+ * Names in use (each is registered in a static field of the class that records it):
+ * - timers: guess.validate, guess.score, guess.persist, multi.guess.score, daily.build,
+ *   view.render, view.multi.render, view.keystroke, net.dictionary, net.randomWords
+ * - counters: guess.rejected.*, multi.guess.rejected, hint.tree, hint.cached,
+ *   hint.computed, view.cellUpdates, daily.build.errors, listener.errors,
+ *   net.dictionary.errors, net.randomWords.errors
+ * - gauges: validation.cache.hitRate, secretPool.hitRate
+ */
+public final class Metrics {
+    private static final Map<String, Object> METRICS = new ConcurrentHashMap<>();
+
+    static {
+        long seconds = Long.getLong("wordle.metrics.logSeconds", 0);
+        if (seconds > 0) {
+            ScheduledExecutorService logger = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "wordle-metrics-log");
+                t.setDaemon(true);
+                return t;
+            });
+            logger.scheduleAtFixedRate(() -> System.err.println(report()), seconds, seconds, TimeUnit.SECONDS);
+        }
+    }
+
+    private Metrics() {
+    }
+
+    public static Timer timer(String name) {
+        return (Timer) METRICS.computeIfAbsent(name, n -> register("Timer", n, new Timer()));
+    }
+
+    public static Counter counter(String name) {
+        return (Counter) METRICS.computeIfAbsent(name, n -> register("Counter", n, new Counter()));
+    }
+
+    /** Registers (or re-points) a gauge; the supplier is only called when the gauge is read. */
+    public static Gauge gauge(String name, DoubleSupplier source) {
+        Gauge gauge = (Gauge) METRICS.computeIfAbsent(name, n -> register("Gauge", n, new Gauge(source)));
+        gauge.setSource(source);
+        return gauge;
+    }
+
+    /** One line per metric, sorted by name. */
+    public static String report() {
+        StringBuilder sb = new StringBuilder("--- wordle metrics ---");
+        for (Map.Entry<String, Object> e : new TreeMap<>(METRICS).entrySet()) {
+            Object m = e.getValue();
+            sb.append('\n').append(e.getKey()).append(": ");
+            if (m instanceof Timer) {
+                Timer t = (Timer) m;
+                sb.append(String.format("count=%d mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus", t.getCount(),
+                        t.getMeanMicros(), t.getP50Micros(), t.getP99Micros(), t.getMaxMicros()));
+            } else if (m instanceof Counter) {
+                sb.append(((Counter) m).getCount());
+            } else {
+                sb.append(String.format("%.3f", ((Gauge) m).getValue()));
+            }
+        }
+        return sb.toString();
+    }
+
+    // JMX is best effort: metrics keep working where no platform MBean server is available
+    private static <T> T register(String type, String name, T metric) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName id = new ObjectName("wordle:type=" + type + ",name=" + ObjectName.quote(name));
+            if (!server.isRegistered(id)) server.registerMBean(metric, id);
+        } catch (Exception | LinkageError e) {
+            System.err.println("⚠️ Could not register metric " + name + " with JMX: " + e.getMessage());
+        }
+        return metric;
+    }
+}
@@ -0,0 +1,96 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timer
+ * -----
+ * Lock-free latency recorder: count and total on striped LongAdders, plus a log-linear
+ * histogram (4 sub-buckets per power of two, so percentiles are within ~20%) for p50/p99.
+ * record() is a handful of uncontended atomic adds, cheap enough to leave on in production.
+ */
+public final class Timer implements TimerMXBean {
+    private static final int SUB_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    Timer() {
+    }
+
+    /** Records one duration in nanoseconds (e.g. System.nanoTime() - start). */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        buckets.incrementAndGet(bucket(nanos));
+    }
+
+    /** Records the time since start, a value from System.nanoTime(). */
+    public void recordSince(long start) {
+        record(System.nanoTime() - start);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalNanos.sum() / 1e3 / n;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return maxNanos.get() / 1e3;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return percentileNanos(50) / 1e3;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return percentileNanos(99) / 1e3;
+    }
+
+    /** Upper bound of the bucket holding the given percentile (0..100), in nanoseconds. */
+    public long percentileNanos(double p) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) total += snapshot[i] = buckets.get(i);
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(p / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) return Math.min(upperBound(i), maxNanos.get());
+        }
+        return maxNanos.get();
+    }
+
+    // values below 2^SUB_BITS get their own bucket; above, the top SUB_BITS bits after the leading one
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) nanos;
+        int exp = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exp - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int exp = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (exp - SUB_BITS)) - 1;
+    }
+}
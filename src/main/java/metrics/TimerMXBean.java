@@ -0,0 +1,12 @@
+package metrics;
+
+// TimerMXBean.java
+// JMX view of a Timer (all durations in microseconds).
+
+public interface TimerMXBean {
+    long getCount();
+    double getMeanMicros();
+    double getMaxMicros();
+    double getP50Micros();
+    double getP99Micros();
+}
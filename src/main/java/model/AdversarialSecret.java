@@ -0,0 +1,70 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * AdversarialSecret
+ * -----------------
+ * The secret of an adversarial ("Absurdle") game, which is never fixed in advance. After
+ * each guess the remaining candidates are split by the feedback they would give, and the
+ * adversary answers with the pattern of the largest group, so the player learns as little
+ * as possible. Ties go to the lower pattern number (greens weigh most, so fewer greens
+ * first); all-green is the highest number, so it is only given once the guess is the
+ * single word left.
+ *
+ * Bucketing is one pass of WordScorer.scoreAll over the remaining words' packed values
+ * into reused primitive buffers: nothing is allocated per guess or per word. Not
+ * thread-safe; the model owns one per game.
+ */
+public final class AdversarialSecret {
+    private final WordDictionary dictionary;
+    private final int length;
+    private final int allCorrect;
+    private final int[] counts; // per pattern, zero between calls
+    private final long[] words; // remaining candidates, packed
+    private final int[] patterns; // their feedback for the current guess
+    private final long[] mask; // the chosen bucket, CandidateSet layout
+
+    public AdversarialSecret(WordDictionary dictionary) {
+        this.dictionary = dictionary;
+        this.length = dictionary.getWordLength();
+        this.allCorrect = WordScorer.allCorrect(length);
+        this.counts = new int[WordScorer.patternCount(length)];
+        this.words = new long[dictionary.size()];
+        this.patterns = new int[dictionary.size()];
+        this.mask = new long[(dictionary.size() + 63) >>> 6];
+    }
+
+    /**
+     * Picks the feedback for guess that keeps the most candidates and narrows candidates
+     * to those words. Returns the pattern.
+     */
+    public int answer(long guess, CandidateSet candidates) {
+        int n = 0;
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            words[n++] = dictionary.packedAt(i);
+        }
+        if (n == 0) return allCorrect; // nothing left to hide
+        WordScorer.scoreAll(guess, words, n, length, patterns);
+        for (int k = 0; k < n; k++) counts[patterns[k]]++;
+
+        int best = patterns[0];
+        for (int k = 0; k < n; k++) {
+            int p = patterns[k];
+            if (counts[p] > counts[best] || (counts[p] == counts[best] && p < best)) best = p;
+        }
+        for (int k = 0; k < n; k++) counts[patterns[k]] = 0;
+
+        Arrays.fill(mask, 0);
+        int k = 0;
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (patterns[k++] == best) mask[i >>> 6] |= 1L << i;
+        }
+        candidates.retain(mask);
+        return best;
+    }
+
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+}
@@ -0,0 +1,126 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * CandidateSet
+ * ------------
+ * The secret words still consistent with the feedback so far, as a long[]-backed bitset
+ * over a WordDictionary (bit i = word at index i). Each guess narrows the set by ANDing in
+ * the precomputed mask for its (guess, pattern) pair, so an update costs O(N/64) and
+ * allocates nothing (guesses seen for the first time rescore the remaining words instead).
+ *
+ * Not thread-safe; use copy() to hand a snapshot to another thread.
+ */
+public final class CandidateSet {
+    private final WordDictionary dictionary;
+    private final long[] bits;
+    private int count;
+
+    public CandidateSet(WordDictionary dictionary) {
+        this.dictionary = dictionary;
+        this.bits = new long[(dictionary.size() + 63) >>> 6];
+        reset();
+    }
+
+    private CandidateSet(CandidateSet other) {
+        this.dictionary = other.dictionary;
+        this.bits = other.bits.clone();
+        this.count = other.count;
+    }
+
+    /** Marks every word in the dictionary as possible again. */
+    public void reset() {
+        Arrays.fill(bits, -1L);
+        int tail = dictionary.size() & 63;
+        if (tail != 0) bits[bits.length - 1] = (1L << tail) - 1;
+        count = dictionary.size();
+    }
+
+    /** Keeps only the words in mask (same layout as this set). */
+    public void retain(long[] mask) {
+        int n = 0;
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] &= mask[i];
+            n += Long.bitCount(bits[i]);
+        }
+        count = n;
+    }
+
+    /**
+     * Keeps only the secrets that would have produced guess's feedback: an AND with the
+     * cached mask for repeated guesses, or a rescore of the remaining words for new ones
+     * (and always for masks over a different dictionary, whose bits would not line up).
+     */
+    public void retain(PatternMasks masks, Guess guess) {
+        long[] mask = masks.getSecrets() == dictionary ? masks.hotMask(guess.getPacked(), guess.getPattern()) : null;
+        if (mask == null) {
+            retainScan(guess.getPacked(), guess.getPattern());
+        } else {
+            retain(mask);
+        }
+    }
+
+    // rescoring only the words still in the set
+    private void retainScan(long guess, int pattern) {
+        int length = dictionary.getWordLength();
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            if (WordScorer.score(guess, dictionary.packedAt(i), length) != pattern) {
+                bits[i >>> 6] &= ~(1L << i);
+                count--;
+            }
+        }
+    }
+
+    public boolean contains(int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /** Next possible word index at or after from, or -1. */
+    public int nextSetBit(int from) {
+        int word = from >>> 6;
+        if (word >= bits.length) return -1;
+        long w = bits[word] & (-1L << from);
+        while (true) {
+            if (w != 0) return (word << 6) + Long.numberOfTrailingZeros(w);
+            if (++word == bits.length) return -1;
+            w = bits[word];
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isFull() {
+        return count == dictionary.size();
+    }
+
+    public int[] toIndices() {
+        int[] out = new int[count];
+        int n = 0;
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) out[n++] = i;
+        return out;
+    }
+
+    public CandidateSet copy() {
+        return new CandidateSet(this);
+    }
+
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /** Same dictionary and same words. A set used as a map key must not be modified afterwards. */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof CandidateSet)) return false;
+        CandidateSet other = (CandidateSet) o;
+        return dictionary == other.dictionary && count == other.count && Arrays.equals(bits, other.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bits);
+    }
+}
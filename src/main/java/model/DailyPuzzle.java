@@ -0,0 +1,139 @@
+package model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DailyPuzzle
+ * -----------
+ * One day's shared puzzle. The secret is chosen deterministically from the date: the
+ * answer list is shuffled with a fixed seed and day n of the cycle plays word n, so every
+ * player (and every server) gets the same word without a network call and no word repeats
+ * until the whole list has been used, after which the next cycle uses a new shuffle.
+ * Guesses are still checked and scored against the full dictionary.
+ *
+ * Everything derived from the secret is computed once and shared read-only by all of the
+ * day's games: the pattern row (feedback for every dictionary word as a guess, so scoring a
+ * guess is an array read) and the candidate bitset left after each first guess. Bitsets for
+ * the usual openers are built up front by DailyPuzzleService; others on first use.
+ */
+public final class DailyPuzzle {
+    /** Puzzle #0 (the original game's first day). */
+    public static final LocalDate FIRST_DAY = LocalDate.of(2021, 6, 19);
+
+    private static final long SEED = 0x5EED20210619L;
+
+    private final LocalDate date;
+    private final int number;
+    private final WordDictionary dictionary;
+    private final int secretIndex;
+    private final long secret;
+    private final short[] patternRow; // by guess index
+    private final ConcurrentHashMap<Integer, long[]> afterFirstGuess = new ConcurrentHashMap<>();
+
+    private DailyPuzzle(LocalDate date, WordDictionary dictionary, WordDictionary answers) {
+        if (answers.getWordLength() != dictionary.getWordLength()) {
+            throw new IllegalArgumentException("Answer list and dictionary differ in word length");
+        }
+        this.date = date;
+        this.number = (int) ChronoUnit.DAYS.between(FIRST_DAY, date);
+        this.dictionary = dictionary;
+        this.secret = answers.packedAt(secretIndex(number, answers.size()));
+        this.secretIndex = dictionary.indexOf(secret);
+        if (secretIndex < 0) {
+            throw new IllegalArgumentException("Answer not in dictionary: " + WordCodec.decode(secret));
+        }
+        int length = dictionary.getWordLength();
+        this.patternRow = new short[dictionary.size()];
+        for (int g = 0; g < patternRow.length; g++) {
+            patternRow[g] = (short) WordScorer.score(dictionary.packedAt(g), secret, length);
+        }
+    }
+
+    /**
+     * Builds the puzzle for a date with its secret drawn from answers, which must be a subset
+     * of dictionary (pattern row included; opener bitsets are lazy).
+     */
+    public static DailyPuzzle forDate(LocalDate date, WordDictionary dictionary, WordDictionary answers) {
+        return new DailyPuzzle(date, dictionary, answers);
+    }
+
+    /** The puzzle for a date over the bundled dictionary and answer list of that length. */
+    public static DailyPuzzle forDate(LocalDate date, int wordLength) {
+        return forDate(date, WordDictionary.forLength(wordLength), WordDictionary.answersForLength(wordLength));
+    }
+
+    // position n of a seeded Fisher-Yates shuffle, reshuffled each time the list runs out
+    static int secretIndex(int number, int size) {
+        int cycle = Math.floorDiv(number, size);
+        int day = Math.floorMod(number, size);
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) order[i] = i;
+        SplittableRandom random = new SplittableRandom(SEED + cycle);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+        return order[day];
+    }
+
+    /** Feedback for a guess against today's secret: a table read for dictionary words. */
+    public int pattern(long guess) {
+        int g = dictionary.indexOf(guess);
+        return g >= 0 ? patternRow[g] : WordScorer.score(guess, secret, dictionary.getWordLength());
+    }
+
+    /**
+     * The secrets still possible after playing guess first (CandidateSet layout), or null
+     * if the guess is not in the dictionary. The returned mask is shared: do not modify it.
+     */
+    public long[] candidatesAfter(long guess) {
+        int g = dictionary.indexOf(guess);
+        if (g < 0) return null;
+        long[] mask = afterFirstGuess.get(g);
+        if (mask == null) {
+            mask = buildMask(g);
+            long[] raced = afterFirstGuess.putIfAbsent(g, mask);
+            if (raced != null) mask = raced;
+        }
+        return mask;
+    }
+
+    // one scoring pass keeping only the secrets that give the day's pattern
+    private long[] buildMask(int g) {
+        long guess = dictionary.packedAt(g);
+        int pattern = patternRow[g];
+        int length = dictionary.getWordLength();
+        long[] mask = new long[(dictionary.size() + 63) >>> 6];
+        for (int s = 0; s < dictionary.size(); s++) {
+            if (WordScorer.score(guess, dictionary.packedAt(s), length) == pattern) mask[s >>> 6] |= 1L << s;
+        }
+        return mask;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /** Days since FIRST_DAY, as shown to players ("Wordle 1,234"). */
+    public int getNumber() {
+        return number;
+    }
+
+    public String getSecretWord() {
+        return dictionary.wordAt(secretIndex);
+    }
+
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public String toString() {
+        return "DailyPuzzle[#" + number + " " + date + "]";
+    }
+}
@@ -4,41 +4,39 @@ import java.util.Arrays;
 // Guess.java
 // Represents a single user guess, comparing it to the secret word and storing
 // letter-by-letter feedback (correct, present, absent) for display in the view.
+// Feedback is kept as a packed base-3 pattern produced by WordScorer.
 
 public class Guess {
     private final String guess;
-    private final LetterFeedback[] letterEval = new LetterFeedback[5];
+    private final long packed;
+    private int pattern;
 
     public Guess(String guess, String secret) {
         this.guess = guess;
+        this.packed = WordCodec.encode(guess);
+        if (packed == WordCodec.INVALID) {
+            throw new IllegalArgumentException("Guess must contain only letters: " + guess);
+        }
         checkWord(secret);
     }
 
-    //2 pass approach to deal with duplicates
-    public void checkWord(String secretWord){
-        int[] letterCounts = new int[26];
-        for (int i = 0; i < secretWord.length(); i++) { //count instances of each letter in secret word
-            letterCounts[secretWord.charAt(i) - 'a']++;
+    //rebuilds a saved guess from its packed word and stored feedback, without rescoring
+    public Guess(long packed, int pattern) {
+        this.guess = WordCodec.decode(packed);
+        this.packed = packed;
+        if (guess.isEmpty()) {
+            throw new IllegalArgumentException("Not a packed word: " + packed);
         }
+        this.pattern = pattern;
+    }
 
-        //first pass only deals with correctness
-        for (int i=0; i<5; i++){
-            if (guess.charAt(i) == secretWord.charAt(i)){
-                letterEval[i] = LetterFeedback.CORRECT;
-                letterCounts[guess.charAt(i) - 'a']--;
-            }
-        }
-        //second pass deals with present and absent
-        for(int i = 0; i < 5; i++) {
-            if (letterEval[i] == LetterFeedback.CORRECT){
-            }
-            else if (secretWord.contains(String.valueOf(guess.charAt(i))) && letterCounts[guess.charAt(i) - 'a'] > 0) {
-                letterEval[i] = LetterFeedback.PRESENT;
-                letterCounts[guess.charAt(i) - 'a']--;
-            } else{
-                letterEval[i] = LetterFeedback.ABSENT;
-            }
+    //scores this guess against the secret word (duplicates handled by WordScorer)
+    public void checkWord(String secretWord){
+        long secret = WordCodec.encode(secretWord);
+        if (secret == WordCodec.INVALID || secretWord.length() != guess.length()) {
+            throw new IllegalArgumentException("Secret word must be " + guess.length() + " letters: " + secretWord);
         }
+        this.pattern = WordScorer.score(packed, secret, guess.length());
     }
 
     //getters
@@ -48,11 +46,23 @@ public class Guess {
     }
     //returns the validity of letter according to given position
     public LetterFeedback getLetterEval(int pos) {
-        return letterEval[pos];
+        if (pos < 0 || pos >= guess.length()) {
+            throw new ArrayIndexOutOfBoundsException(pos);
+        }
+        return WordScorer.feedbackAt(pattern, pos);
+    }
+    //base-3 feedback pattern for the whole word (see WordScorer)
+    public int getPattern() {
+        return pattern;
+    }
+    public long getPacked() {
+        return packed;
     }
 
     @Override
     public String toString() {
+        LetterFeedback[] letterEval = new LetterFeedback[guess.length()];
+        for (int i = 0; i < letterEval.length; i++) letterEval[i] = getLetterEval(i);
         return "Guess string: \""+this.guess + "\" Feedback: "+ Arrays.toString(letterEval);
     }
 }
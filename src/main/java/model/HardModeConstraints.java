@@ -0,0 +1,199 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * HardModeConstraints
+ * -------------------
+ * What the feedback so far says about the secret, compiled from each guess's packed word
+ * and pattern into plain masks so checking a word never re-scores it against the history:
+ *
+ *   greens     - the fixed letters as 5-bit fields in WordCodec layout, compared with one AND
+ *   allowed[i] - 26-bit mask of letters still possible at position i
+ *   min/max    - per letter, how many times it must / may appear
+ *
+ * isHardModeGuess applies the hard-mode rule (greens stay in place, revealed letters are
+ * reused at least as often as they were revealed); matches applies everything known, which
+ * is exactly "could still be the secret" and is what dictionary filters use. A word's letter
+ * counts are taken with the same SWAR zero-field test WordScorer uses for greens.
+ * Not thread-safe; use copy() to hand a snapshot to another thread.
+ */
+public final class HardModeConstraints {
+    private static final int ALL_LETTERS = (1 << 26) - 1;
+    private static final long ONES; // lowest bit of every 5-bit field
+    private static final long HIGHS;
+    private static final long LOWS;
+    private static final String[] ORDINALS = {"1st", "2nd", "3rd"};
+
+    static {
+        long ones = 0;
+        for (int i = 0; i < WordCodec.MAX_LENGTH; i++) ones |= 1L << (5 * i);
+        ONES = ones;
+        HIGHS = ones << 4;
+        LOWS = ones * 15;
+    }
+
+    private final int wordLength;
+    private final long fields; // high bits of the word's fields
+    private long greenMask; // 31 in every fixed field
+    private long greens; // the fixed letters
+    private final int[] allowed;
+    private final byte[] min = new byte[27]; // by letter code 1..26
+    private final byte[] max = new byte[27];
+    private int[] required = new int[0]; // letter codes with min > 0
+
+    public HardModeConstraints(int wordLength) {
+        this.wordLength = wordLength;
+        long f = 0;
+        for (int i = 0; i < wordLength; i++) f |= 16L << (5 * i);
+        this.fields = f;
+        this.allowed = new int[wordLength];
+        clear();
+    }
+
+    private HardModeConstraints(HardModeConstraints other) {
+        this.wordLength = other.wordLength;
+        this.fields = other.fields;
+        this.greenMask = other.greenMask;
+        this.greens = other.greens;
+        this.allowed = other.allowed.clone();
+        System.arraycopy(other.min, 0, min, 0, min.length);
+        System.arraycopy(other.max, 0, max, 0, max.length);
+        this.required = other.required;
+    }
+
+    /** Forgets all feedback (a new game). */
+    public void clear() {
+        greenMask = 0;
+        greens = 0;
+        Arrays.fill(allowed, ALL_LETTERS);
+        Arrays.fill(min, (byte) 0);
+        Arrays.fill(max, (byte) wordLength);
+        required = new int[0];
+    }
+
+    /** Folds in the feedback of one guess (see WordScorer for the pattern encoding). */
+    public void add(long guess, int pattern) {
+        byte[] marked = new byte[27]; // green or yellow occurrences of each letter in this guess
+        boolean[] grayed = new boolean[27];
+        for (int i = 0; i < wordLength; i++) {
+            int letter = WordCodec.letterAt(guess, i);
+            int bit = 1 << (letter - 1);
+            switch (WordScorer.digitAt(pattern, i)) {
+                case WordScorer.CORRECT:
+                    allowed[i] = bit;
+                    greenMask |= 31L << (5 * i);
+                    greens |= (long) letter << (5 * i);
+                    marked[letter]++;
+                    break;
+                case WordScorer.PRESENT:
+                    allowed[i] &= ~bit;
+                    marked[letter]++;
+                    break;
+                default:
+                    allowed[i] &= ~bit;
+                    grayed[letter] = true;
+            }
+        }
+        for (int letter = 1; letter <= 26; letter++) {
+            if (marked[letter] > min[letter]) min[letter] = marked[letter];
+            if (!grayed[letter]) continue;
+            max[letter] = marked[letter]; // a gray copy caps the count
+            if (marked[letter] == 0) {
+                for (int i = 0; i < wordLength; i++) allowed[i] &= ~(1 << (letter - 1)); // not in the word at all
+            }
+        }
+        int n = 0;
+        int[] req = new int[26];
+        for (int letter = 1; letter <= 26; letter++) if (min[letter] > 0) req[n++] = letter;
+        required = Arrays.copyOf(req, n);
+    }
+
+    public void add(Guess guess) {
+        add(guess.getPacked(), guess.getPattern());
+    }
+
+    public boolean isEmpty() {
+        return greenMask == 0 && required.length == 0 && allSet();
+    }
+
+    /** Hard mode: greens kept in place and every revealed letter used at least as often. */
+    public boolean isHardModeGuess(long word) {
+        if ((word & greenMask) != greens) return false;
+        for (int letter : required) {
+            if (count(word, letter) < min[letter]) return false;
+        }
+        return true;
+    }
+
+    /** Whether the word is consistent with all feedback, i.e. could still be the secret. */
+    public boolean matches(long word) {
+        if ((word & greenMask) != greens) return false;
+        for (int i = 0; i < wordLength; i++) {
+            if ((allowed[i] >>> (WordCodec.letterAt(word, i) - 1) & 1) == 0) return false;
+        }
+        for (int letter : required) {
+            int c = count(word, letter);
+            if (c < min[letter] || c > max[letter]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Why a word breaks hard mode, in the official game's wording ("2nd letter must be R",
+     * "Guess must contain A"), or null if it is allowed.
+     */
+    public String hardModeViolation(long word) {
+        for (int i = 0; i < wordLength; i++) {
+            int fixed = WordCodec.letterAt(greens, i);
+            if (fixed != 0 && WordCodec.letterAt(word, i) != fixed) {
+                return ordinal(i + 1) + " letter must be " + (char) ('A' + fixed - 1);
+            }
+        }
+        for (int letter : required) {
+            if (count(word, letter) < min[letter]) return "Guess must contain " + (char) ('A' + letter - 1);
+        }
+        return null;
+    }
+
+    /** Bitset over the dictionary (CandidateSet layout) of the words allowed in hard mode. */
+    public long[] hardModeMask(WordDictionary dict) {
+        long[] mask = new long[(dict.size() + 63) >>> 6];
+        for (int i = 0; i < dict.size(); i++) {
+            if (isHardModeGuess(dict.packedAt(i))) mask[i >>> 6] |= 1L << i;
+        }
+        return mask;
+    }
+
+    /** Bitset over the dictionary (CandidateSet layout) of the words that could still be the secret. */
+    public long[] matchMask(WordDictionary dict) {
+        long[] mask = new long[(dict.size() + 63) >>> 6];
+        for (int i = 0; i < dict.size(); i++) {
+            if (matches(dict.packedAt(i))) mask[i >>> 6] |= 1L << i;
+        }
+        return mask;
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    public HardModeConstraints copy() {
+        return new HardModeConstraints(this);
+    }
+
+    // occurrences of a letter: zero fields of word ^ letter-in-every-field (exact, no borrows)
+    private int count(long word, int letter) {
+        long x = word ^ (letter * ONES);
+        return Long.bitCount(~(((x & LOWS) + LOWS) | x | LOWS) & HIGHS & fields);
+    }
+
+    private boolean allSet() {
+        for (int a : allowed) if (a != ALL_LETTERS) return false;
+        return true;
+    }
+
+    private static String ordinal(int n) {
+        return n <= 3 ? ORDINALS[n - 1] : n + "th";
+    }
+}
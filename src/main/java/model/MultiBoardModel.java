@@ -0,0 +1,164 @@
+package model;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * MultiBoardModel
+ * ---------------
+ * Quordle/Octordle-style game: every guess is played on N boards at once, each with its
+ * own secret, and the game is won when every board is solved within the guess limit
+ * (boards + 5 by default: 9 for 4 boards, 13 for 8, 21 for 16).
+ *
+ * A guess is scored against every secret in one WordScorer.scoreAll pass over
+ * the packed secrets, and feedback is stored as one pattern per (guess, board) rather
+ * than a Guess object per board. Candidate filtering shares the guess's PatternMasks,
+ * so one dictionary scan serves every board and each board then costs a bitset AND.
+ * Methods are synchronized like WordleModel's.
+ */
+public class MultiBoardModel {
+    public static final int MAX_BOARDS = 32;
+    public static final int NOT_PLAYED = -1; // pattern of a board that was already solved
+
+    private final int wordLength;
+    private final int maxGuesses;
+    private final long[] secrets;
+    private final long[] guesses;
+    private final int[] patterns; // [guess * boards + board]
+    private final int[] solvedAt; // guess number (1-based) that solved the board, 0 = unsolved
+    private final CandidateSet[] candidates;
+    private final PatternMasks masks;
+    private final int[] scratch; // scoreAll output, one slot per board
+    private int guessCount;
+    private int solvedCount;
+
+    public MultiBoardModel(String... secretWords) {
+        this(secretWords, secretWords.length + 5);
+    }
+
+    public MultiBoardModel(String[] secretWords, int maxGuesses) {
+        if (secretWords.length < 1 || secretWords.length > MAX_BOARDS) {
+            throw new IllegalArgumentException("Board count must be 1.." + MAX_BOARDS + ": " + secretWords.length);
+        }
+        if (maxGuesses < 1) throw new IllegalArgumentException("Guess limit must be positive: " + maxGuesses);
+        this.wordLength = secretWords[0].length();
+        this.maxGuesses = maxGuesses;
+        this.secrets = new long[secretWords.length];
+        for (int b = 0; b < secrets.length; b++) {
+            secrets[b] = WordCodec.encode(secretWords[b]);
+            if (secrets[b] == WordCodec.INVALID || secretWords[b].length() != wordLength) {
+                throw new IllegalArgumentException("Secrets must all be " + wordLength + " letters: " + secretWords[b]);
+            }
+        }
+        this.guesses = new long[maxGuesses];
+        this.patterns = new int[maxGuesses * secrets.length];
+        this.solvedAt = new int[secrets.length];
+        this.scratch = new int[secrets.length];
+        this.masks = PatternMasks.forLength(wordLength);
+        this.candidates = new CandidateSet[secrets.length];
+        for (int b = 0; b < secrets.length; b++) candidates[b] = new CandidateSet(masks.getSecrets());
+    }
+
+    /** A game with distinct random secrets from the bundled answer list of that length. */
+    public static MultiBoardModel random(int boards, int wordLength) {
+        WordDictionary answers = WordDictionary.answersForLength(wordLength);
+        if (boards > answers.size()) throw new IllegalArgumentException("Not enough words for " + boards + " boards");
+        Set<String> picked = new HashSet<>();
+        while (picked.size() < boards) picked.add(RandomWordFetcher.nextSecretWord(wordLength));
+        return new MultiBoardModel(picked.toArray(new String[0]));
+    }
+
+    /**
+     * Plays a guess on every unsolved board. Returns false (and changes nothing) for a word
+     * of the wrong length or once the game is over; dictionary checks are the controller's job.
+     */
+    public synchronized boolean makeGuess(String word) {
+        if (isWon() || isLost()) return false;
+        if (!RandomWordFetcher.isValidWord(word, wordLength)) return false;
+        long guess = WordCodec.encode(word);
+        if (guess == WordCodec.INVALID) return false;
+
+        WordScorer.scoreAll(guess, secrets, wordLength, scratch);
+        int row = guessCount * secrets.length;
+        int allCorrect = WordScorer.allCorrect(wordLength);
+        boolean shareMasks = secrets.length - solvedCount > 1;
+        for (int b = 0; b < secrets.length; b++) {
+            if (solvedAt[b] != 0) {
+                patterns[row + b] = NOT_PLAYED;
+                continue;
+            }
+            int pattern = scratch[b];
+            patterns[row + b] = pattern;
+            if (pattern == allCorrect) {
+                solvedAt[b] = guessCount + 1;
+                solvedCount++;
+            }
+            // with several boards the guess's masks (one dictionary scan) pay for themselves at once
+            if (shareMasks) candidates[b].retain(masks.mask(guess, pattern));
+            else candidates[b].retain(masks, new Guess(guess, pattern));
+        }
+        guesses[guessCount++] = guess;
+        return true;
+    }
+
+    public synchronized boolean isWon() {
+        return solvedCount == secrets.length;
+    }
+
+    public synchronized boolean isLost() {
+        return !isWon() && guessCount >= maxGuesses;
+    }
+
+    public synchronized boolean isSolved(int board) {
+        return solvedAt[board] != 0;
+    }
+
+    /** Guess number (1-based) that solved the board, or 0 while it is unsolved. */
+    public synchronized int getSolvedAt(int board) {
+        return solvedAt[board];
+    }
+
+    public synchronized int getSolvedCount() {
+        return solvedCount;
+    }
+
+    /** Feedback for a guess on a board (see WordScorer), or NOT_PLAYED after the board was solved. */
+    public synchronized int getPattern(int guess, int board) {
+        if (guess < 0 || guess >= guessCount) throw new IndexOutOfBoundsException("guess " + guess);
+        return patterns[guess * secrets.length + board];
+    }
+
+    public synchronized String getGuess(int guess) {
+        if (guess < 0 || guess >= guessCount) throw new IndexOutOfBoundsException("guess " + guess);
+        return WordCodec.decode(guesses[guess]);
+    }
+
+    public synchronized String getSecretWord(int board) {
+        return WordCodec.decode(secrets[board]);
+    }
+
+    /** Dictionary words still consistent with the board's feedback. */
+    public synchronized int getRemainingCount(int board) {
+        return candidates[board].size();
+    }
+
+    public synchronized CandidateSet copyCandidates(int board) {
+        return candidates[board].copy();
+    }
+
+    public synchronized int getGuessCount() {
+        return guessCount;
+    }
+
+    public int getBoardCount() {
+        return secrets.length;
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    public int getMaxGuesses() {
+        return maxGuesses;
+    }
+}
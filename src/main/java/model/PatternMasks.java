@@ -0,0 +1,132 @@
+package model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * PatternMasks
+ * ------------
+ * Per-(guess, pattern) bitsets over a secret dictionary: mask(g, p) has bit s set when
+ * secret s would answer guess g with pattern p. A guess's masks are built in one scoring
+ * pass once it has been played more than once and kept in an LRU cache, so popular
+ * openers are computed once and every later update is a plain AND, while one-off guesses
+ * never pay for a build. A guess's masks grow with the pattern count and the dictionary
+ * (about 73 KB at 5 letters, 2 MB at 8), so the cache is capped in bytes rather than
+ * entries: longer words simply keep fewer guesses. Returned masks are shared and must
+ * not be modified.
+ */
+public final class PatternMasks {
+    private static final long DEFAULT_CACHE_BYTES = 16L << 20; // per word length
+    private static final int SEEN_SIZE = 1024;
+
+    private final WordDictionary secrets;
+    private final long[] empty;
+    private final long cacheBytes;
+    private final Map<Long, long[][]> cache; // access order, eldest evicted first
+    private final Map<Long, Boolean> seen; // guesses played once, not yet worth building
+    private long cachedBytes; // guarded by cache
+
+    private static final AtomicReferenceArray<PatternMasks> BY_LENGTH =
+            new AtomicReferenceArray<>(WordDictionary.MAX_LENGTH + 1);
+
+    /** cacheBytes bounds the cached masks; the most recent guess is always kept. */
+    public PatternMasks(WordDictionary secrets, long cacheBytes) {
+        this.secrets = secrets;
+        this.empty = new long[(secrets.size() + 63) >>> 6];
+        this.cacheBytes = cacheBytes;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+        this.seen = new LinkedHashMap<Long, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > SEEN_SIZE;
+            }
+        };
+    }
+
+    /** Masks over the bundled dictionary. */
+    public static PatternMasks getDefault() {
+        return forLength(WordDictionary.DEFAULT_LENGTH);
+    }
+
+    /** Masks over the bundled dictionary of the given word length, created on first use. */
+    public static PatternMasks forLength(int wordLength) {
+        PatternMasks masks = BY_LENGTH.get(wordLength);
+        if (masks == null) {
+            BY_LENGTH.compareAndSet(wordLength, null,
+                    new PatternMasks(WordDictionary.forLength(wordLength), DEFAULT_CACHE_BYTES));
+            masks = BY_LENGTH.get(wordLength);
+        }
+        return masks;
+    }
+
+    /**
+     * Mask for a guess that has been played before (building and caching it on the second
+     * sighting), or null the first time so the caller can rescore its own words instead.
+     */
+    public long[] hotMask(long guess, int pattern) {
+        synchronized (cache) {
+            if (!cache.containsKey(guess) && seen.put(guess, Boolean.TRUE) == null) return null;
+        }
+        return mask(guess, pattern);
+    }
+
+    /** Mask for the pair, building the guess's masks now if they are not cached. */
+    public long[] mask(long guess, int pattern) {
+        long[][] buckets;
+        synchronized (cache) {
+            buckets = cache.get(guess);
+        }
+        if (buckets == null) {
+            buckets = build(guess);
+            synchronized (cache) {
+                long[][] old = cache.put(guess, buckets);
+                if (old != null) cachedBytes -= sizeOf(old);
+                cachedBytes += sizeOf(buckets);
+                evict();
+            }
+        }
+        long[] mask = buckets[pattern];
+        return mask != null ? mask : empty;
+    }
+
+    public WordDictionary getSecrets() {
+        return secrets;
+    }
+
+    /** Approximate heap held by the cached masks. */
+    public long getCachedBytes() {
+        synchronized (cache) {
+            return cachedBytes;
+        }
+    }
+
+    // drops least recently used guesses until the cache fits, keeping the newest; caller holds cache
+    private void evict() {
+        Iterator<long[][]> it = cache.values().iterator();
+        while (cachedBytes > cacheBytes && cache.size() > 1) {
+            cachedBytes -= sizeOf(it.next());
+            it.remove();
+        }
+    }
+
+    // array headers plus payload, for the outer array and every bucket that was hit
+    private static long sizeOf(long[][] buckets) {
+        long bytes = 16 + 8L * buckets.length;
+        for (long[] b : buckets) if (b != null) bytes += 16 + 8L * b.length;
+        return bytes;
+    }
+
+    // one pass over the secrets, only allocating buckets that are actually hit
+    private long[][] build(long guess) {
+        int length = secrets.getWordLength();
+        long[][] buckets = new long[WordScorer.patternCount(length)][];
+        for (int s = 0; s < secrets.size(); s++) {
+            int p = WordScorer.score(guess, secrets.packedAt(s), length);
+            if (buckets[p] == null) buckets[p] = new long[empty.length];
+            buckets[p][s >>> 6] |= 1L << s;
+        }
+        return buckets;
+    }
+}
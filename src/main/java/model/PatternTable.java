@@ -0,0 +1,170 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+/**
+ * PatternTable
+ * ------------
+ * Precomputed feedback patterns for every (guess, secret) pair of two dictionaries,
+ * one byte per pair, so hint/solver/analytics code reads an array instead of scoring.
+ * The table is persisted to a binary file and memory-mapped on later starts, which keeps
+ * it off the Java heap. The header records both dictionaries' fingerprints; a file built
+ * from a different word list is detected as stale and rebuilt (in parallel across cores).
+ */
+public final class PatternTable {
+    public static final String DEFAULT_FILE = "wordle_patterns.bin";
+    public static final int MAX_WORD_LENGTH = 5; // one byte per pattern: 3^5 = 243
+
+    private static final int MAGIC = 0x57504154; // "WPAT"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+
+    private final WordDictionary guesses;
+    private final WordDictionary secrets;
+    private final ByteBuffer data;
+
+    private static final AtomicReferenceArray<PatternTable> BY_LENGTH = new AtomicReferenceArray<>(MAX_WORD_LENGTH + 1);
+
+    private PatternTable(WordDictionary guesses, WordDictionary secrets, ByteBuffer data) {
+        this.guesses = guesses;
+        this.secrets = secrets;
+        this.data = data;
+    }
+
+    /** Table for the bundled dictionary (guesses and secrets are the same list). */
+    public static PatternTable getDefault() {
+        return forLength(WordDictionary.DEFAULT_LENGTH);
+    }
+
+    /**
+     * Table for the bundled dictionary of a word length (at most 5 letters), cached in
+     * wordle_patterns.bin (-Dwordle.patternFile) for 5 letters and wordle_patterns{n}.bin otherwise.
+     */
+    public static PatternTable forLength(int wordLength) {
+        if (wordLength < WordDictionary.MIN_LENGTH || wordLength > MAX_WORD_LENGTH) {
+            throw new UnsupportedOperationException("Pattern tables (and hints) support "
+                    + WordDictionary.MIN_LENGTH + ".." + MAX_WORD_LENGTH + " letters, not " + wordLength);
+        }
+        PatternTable table = BY_LENGTH.get(wordLength);
+        if (table == null) {
+            synchronized (BY_LENGTH) {
+                table = BY_LENGTH.get(wordLength);
+                if (table == null) {
+                    WordDictionary dict = WordDictionary.forLength(wordLength);
+                    String file = wordLength == WordDictionary.DEFAULT_LENGTH
+                            ? System.getProperty("wordle.patternFile", DEFAULT_FILE)
+                            : "wordle_patterns" + wordLength + ".bin";
+                    table = load(dict, dict, Paths.get(file));
+                    BY_LENGTH.set(wordLength, table);
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Maps the cache file if it matches the dictionaries, otherwise rebuilds it.
+     * If the file cannot be written the table is built in memory only.
+     */
+    public static PatternTable load(WordDictionary guesses, WordDictionary secrets, Path file) {
+        if (guesses.getWordLength() != secrets.getWordLength() || guesses.getWordLength() > MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("Pattern tables need matching word lengths of at most 5 letters");
+        }
+        long size = HEADER_BYTES + (long) guesses.size() * secrets.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Dictionary too large for a pattern table: " + size + " bytes");
+        }
+
+        try {
+            if (Files.exists(file) && Files.size(file) == size) {
+                try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+                    MappedByteBuffer mapped = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                    if (headerMatches(mapped, guesses, secrets)) {
+                        return new PatternTable(guesses, secrets, mapped);
+                    }
+                }
+            }
+            return new PatternTable(guesses, secrets, buildFile(guesses, secrets, file, (int) size));
+        } catch (IOException e) {
+            System.err.println("⚠️ PatternTable cache unavailable (" + e.getMessage() + "), building in memory");
+            ByteBuffer heap = ByteBuffer.allocate((int) size);
+            fill(heap, guesses, secrets);
+            return new PatternTable(guesses, secrets, heap);
+        }
+    }
+
+    /** Pattern (see WordScorer) for the guess and secret at the given dictionary indices. */
+    public int pattern(int guessIndex, int secretIndex) {
+        return data.get(HEADER_BYTES + guessIndex * secrets.size() + secretIndex) & 0xFF;
+    }
+
+    public WordDictionary getGuesses() {
+        return guesses;
+    }
+
+    public WordDictionary getSecrets() {
+        return secrets;
+    }
+
+    // builds into a temp file, then renames it into place so a crash never leaves a half-written cache
+    private static ByteBuffer buildFile(WordDictionary guesses, WordDictionary secrets, Path file, int size)
+            throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        MappedByteBuffer mapped;
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            mapped = ch.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        fill(mapped, guesses, secrets);
+        mapped.force();
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return mapped.asReadOnlyBuffer();
+    }
+
+    // header + one row per guess, rows computed in parallel on the common fork-join pool
+    private static void fill(ByteBuffer target, WordDictionary guesses, WordDictionary secrets) {
+        target.putInt(0, MAGIC);
+        target.putInt(4, VERSION);
+        target.putInt(8, guesses.getWordLength());
+        target.putInt(12, guesses.size());
+        target.putInt(16, secrets.size());
+        target.putLong(24, guesses.fingerprint());
+        target.putLong(32, secrets.fingerprint());
+
+        int length = guesses.getWordLength();
+        int columns = secrets.size();
+        IntStream.range(0, guesses.size()).parallel().forEach(g -> {
+            long guess = guesses.packedAt(g);
+            byte[] row = new byte[columns];
+            for (int s = 0; s < columns; s++) {
+                row[s] = (byte) WordScorer.score(guess, secrets.packedAt(s), length);
+            }
+            ByteBuffer slice = target.duplicate();
+            slice.position(HEADER_BYTES + g * columns);
+            slice.put(row);
+        });
+    }
+
+    private static boolean headerMatches(ByteBuffer buf, WordDictionary guesses, WordDictionary secrets) {
+        return buf.getInt(0) == MAGIC
+                && buf.getInt(4) == VERSION
+                && buf.getInt(8) == guesses.getWordLength()
+                && buf.getInt(12) == guesses.size()
+                && buf.getInt(16) == secrets.size()
+                && buf.getLong(24) == guesses.fingerprint()
+                && buf.getLong(32) == secrets.fingerprint();
+    }
+}
@@ -1,24 +1,70 @@
 package model;
 
+import metrics.Counter;
+import metrics.Metrics;
+import metrics.Timer;
+
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * RandomWordFetcher
  * -----------------
- * Fetches a random 5-letter English word from the Random Word API.
+ * Fetches random 5-letter English words from the Random Word API.
  * Used only for secret word generation; does not validate guesses.
+ * Games should call nextSecretWord(), which is served from a pre-fetched pool.
  */
 public class RandomWordFetcher {
 
-    private static final String API_URL = "https://random-word-api.vercel.app/api?words=1&length=5";
+    private static final String API_URL = "https://random-word-api.vercel.app/api?length=5&words=";
+    private static final Timer NET_TIMER = Metrics.timer("net.randomWords");
+    private static final Counter NET_ERRORS = Metrics.counter("net.randomWords.errors");
+
+    /** Next secret word from the background-filled pool (local dictionary when offline). */
+    public static String nextSecretWord() {
+        return SecretWordPool.getDefault().take();
+    }
+
+    /**
+     * Next secret word of the given length; the API pool only serves 5-letter words, other
+     * lengths are drawn from that length's answer list.
+     */
+    public static String nextSecretWord(int length) {
+        if (length == WordDictionary.DEFAULT_LENGTH) return nextSecretWord();
+        WordDictionary answers = WordDictionary.answersForLength(length);
+        return answers.wordAt(answers.sampleIndex(ThreadLocalRandom.current().nextDouble())); // frequency-weighted
+    }
 
     /** Returns a random 5-letter word fetched from the API. */
     public static String fetchRandomWord() throws Exception {
-        URI uri = new URI(API_URL);
+        List<String> words = fetchRandomWords(1);
+        if (words.isEmpty()) {
+            throw new RuntimeException("API returned no words");
+        }
+        return words.get(0);
+    }
+
+    /** Returns up to count random 5-letter words from a single API request. */
+    public static List<String> fetchRandomWords(int count) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return requestRandomWords(count);
+        } catch (Exception e) {
+            NET_ERRORS.increment();
+            throw e;
+        } finally {
+            NET_TIMER.recordSince(start);
+        }
+    }
+
+    private static List<String> requestRandomWords(int count) throws Exception {
+        URI uri = new URI(API_URL + count);
         URL url = uri.toURL();
         HttpURLConnection conn = (HttpURLConnection) url.openConnection();
         conn.setRequestMethod("GET");
@@ -34,14 +80,22 @@ public class RandomWordFetcher {
             StringBuilder response = new StringBuilder();
             String line;
             while ((line = in.readLine()) != null) response.append(line);
-            // remove ["",] characters
-            String word = response.toString().replaceAll("[\\[\\]\"]", "").trim();
-            return word.toLowerCase();
+            // remove [" ] characters, then split the JSON array on commas
+            String body = response.toString().replaceAll("[\\[\\]\"]", "").trim();
+            List<String> words = new ArrayList<>();
+            for (String w : body.split(",")) {
+                if (!w.trim().isEmpty()) words.add(w.trim().toLowerCase());
+            }
+            return words;
         }
     }
 
     /** Stub for validation: always true (API only). */
     public static boolean isValidWord(String word) {
-        return word != null && word.length() == 5;
+        return isValidWord(word, WordDictionary.DEFAULT_LENGTH);
+    }
+
+    public static boolean isValidWord(String word, int length) {
+        return word != null && word.length() == length;
     }
 }
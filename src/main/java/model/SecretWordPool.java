@@ -0,0 +1,141 @@
+package model;
+
+import metrics.Metrics;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SecretWordPool
+ * --------------
+ * Keeps a queue of secret words ready so new games start without a network call.
+ * When the queue drops below half full a background refill fetches a whole batch in one
+ * request. If the queue is empty (first start, offline, API down) the game gets a random
+ * word from the local answer list instead of waiting, common words (by the list's
+ * frequency column) more often than obscure ones. Failed refills back off before retrying.
+ * Only words in the given list are pooled; the default pool uses the curated answer list,
+ * so API words that are obscure, inflected or offensive never become secrets.
+ */
+public class SecretWordPool {
+    /** Fetches up to count candidate words, e.g. from the Random Word API. */
+    public interface WordSource {
+        List<String> fetch(int count) throws Exception;
+    }
+
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final WordSource source;
+    private final WordDictionary dictionary;
+    private final BlockingQueue<String> queue;
+    private final int capacity;
+    private final Executor refiller;
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private volatile long retryAfter = 0;
+
+    // metrics
+    private final LongAdder hits = new LongAdder(); // take() is called from many game threads
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLong refills = new AtomicLong();
+    private final AtomicLong refillFailures = new AtomicLong();
+    private final AtomicLong totalRefillNanos = new AtomicLong();
+    private volatile long lastRefillNanos;
+
+    private static class Holder {
+        static final SecretWordPool DEFAULT = new SecretWordPool(RandomWordFetcher::fetchRandomWords,
+                WordDictionary.getDefaultAnswers(), 32, Executors.newSingleThreadExecutor(r -> {
+                    Thread t = new Thread(r, "secret-word-refill");
+                    t.setDaemon(true);
+                    return t;
+                }));
+
+        static {
+            Metrics.gauge("secretPool.hitRate", () -> {
+                long served = DEFAULT.getHits() + DEFAULT.getMisses();
+                return served == 0 ? 0 : (double) DEFAULT.getHits() / served;
+            });
+        }
+    }
+
+    public SecretWordPool(WordSource source, WordDictionary dictionary, int capacity, Executor refiller) {
+        this.source = source;
+        this.dictionary = dictionary;
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.refiller = refiller;
+    }
+
+    /** Shared pool backed by the Random Word API and the bundled answer list. */
+    public static SecretWordPool getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    /** Next secret word; never blocks on the network. */
+    public String take() {
+        String word = queue.poll();
+        if (word != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            word = dictionary.wordAt(dictionary.sampleIndex(ThreadLocalRandom.current().nextDouble()));
+        }
+        if (queue.size() < capacity / 2) refillAsync();
+        return word;
+    }
+
+    /** Starts a background refill unless one is running or the last one failed recently. */
+    public void refillAsync() {
+        if (System.nanoTime() - retryAfter < 0) return;
+        if (!refilling.compareAndSet(false, true)) return;
+        refiller.execute(() -> {
+            try {
+                refill();
+            } finally {
+                refilling.set(false);
+            }
+        });
+    }
+
+    private void refill() {
+        long start = System.nanoTime();
+        try {
+            List<String> words = source.fetch(capacity - queue.size());
+            for (String w : words) {
+                String word = w.trim().toLowerCase();
+                if (dictionary.contains(word) && !queue.offer(word)) break;
+            }
+            long elapsed = System.nanoTime() - start;
+            lastRefillNanos = elapsed;
+            totalRefillNanos.addAndGet(elapsed);
+            refills.incrementAndGet();
+        } catch (Exception e) {
+            refillFailures.incrementAndGet();
+            retryAfter = System.nanoTime() + RETRY_BACKOFF_NANOS;
+            System.err.println("⚠️ SecretWordPool refill failed: " + e.getMessage());
+        }
+    }
+
+    public int size() { return queue.size(); }
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getRefills() { return refills.get(); }
+    public long getRefillFailures() { return refillFailures.get(); }
+    public long getLastRefillMillis() { return TimeUnit.NANOSECONDS.toMillis(lastRefillNanos); }
+    public double getAverageRefillMillis() {
+        long n = refills.get();
+        return n == 0 ? 0 : totalRefillNanos.get() / 1e6 / n;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SecretWordPool[size=%d hits=%d misses=%d refills=%d failures=%d avgRefill=%.1fms]",
+                size(), getHits(), getMisses(), getRefills(), getRefillFailures(), getAverageRefillMillis());
+    }
+}
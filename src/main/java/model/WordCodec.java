@@ -0,0 +1,48 @@
+package model;
+
+// WordCodec.java
+// Packs words into primitive longs (5 bits per letter, 'a' = 1 ... 'z' = 26) so that
+// dictionaries, scoring and solver code can work on plain numbers instead of Strings.
+// Letter i lives in bits [5i, 5i + 5); a zero slot marks the end of the word.
+
+public final class WordCodec {
+    public static final int MAX_LENGTH = 12; // 12 * 5 = 60 bits
+    public static final long INVALID = -1L;
+
+    private WordCodec() {
+    }
+
+    /** Packs a word (case-insensitive, letters only). Returns INVALID for anything else. */
+    public static long encode(CharSequence word) {
+        if (word == null || word.length() == 0 || word.length() > MAX_LENGTH) return INVALID;
+        long packed = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= 'A' && c <= 'Z') c += 'a' - 'A';
+            if (c < 'a' || c > 'z') return INVALID;
+            packed |= (long) (c - 'a' + 1) << (5 * i);
+        }
+        return packed;
+    }
+
+    /** Letter code at pos: 1..26 for 'a'..'z', 0 past the end of the word. */
+    public static int letterAt(long packed, int pos) {
+        return (int) (packed >>> (5 * pos)) & 31;
+    }
+
+    public static int length(long packed) {
+        int len = 0;
+        while (len < MAX_LENGTH && letterAt(packed, len) != 0) len++;
+        return len;
+    }
+
+    /** Unpacks back to a lowercase String. */
+    public static String decode(long packed) {
+        int len = length(packed);
+        char[] chars = new char[len];
+        for (int i = 0; i < len; i++) {
+            chars[i] = (char) ('a' + letterAt(packed, i) - 1);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,325 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * WordDictionary
+ * --------------
+ * Immutable word list for one word length, stored as a sorted array of packed longs
+ * (see {@link WordCodec}). Lookups are a binary search over primitives, so checking a
+ * guess never allocates and never touches the network. The position of a word in the
+ * sorted array is its stable index, so other structures can refer to words by int.
+ * Word lists are streamed through an NIO channel and packed straight from the bytes in a
+ * single pass (no String or line objects); everything derived from a dictionary - its
+ * fingerprint, pattern masks, pattern tables - is built only when first asked for.
+ *
+ * A line may carry an optional second column, the word's relative frequency ("crane 23").
+ * Frequencies are kept in a float[] aligned to the word index (no per-word objects) and
+ * weight hint probabilities and offline secret picks; a list without the column, and words
+ * without one in a list that has it, weigh as much as the rarest listed word.
+ *
+ * Every length also has a smaller answer list (answers.txt, answers{L}.txt): common,
+ * uninflected words that secrets are drawn from. It is a subset of the guess list and is
+ * loaded the same way, as a dictionary of its own.
+ */
+public final class WordDictionary {
+    public static final String DEFAULT_RESOURCE = "/words.txt";
+    public static final String DEFAULT_ANSWERS_RESOURCE = "/answers.txt";
+    public static final int DEFAULT_LENGTH = 5;
+    public static final int MIN_LENGTH = 4;
+    public static final int MAX_LENGTH = 8;
+
+    private static final int READ_BUFFER = 64 * 1024;
+
+    private final long[] words;
+    private final int wordLength;
+    private final float[] frequencies; // by word index, or null for an unweighted list
+    private volatile long fingerprint; // computed on first use; 0 = not yet
+    private volatile double[] cumulative; // running frequency sums for sampleIndex, built on first use
+
+    // one lazily loaded dictionary per supported length, so only variants actually played cost memory
+    private static final AtomicReferenceArray<WordDictionary> BY_LENGTH = new AtomicReferenceArray<>(MAX_LENGTH + 1);
+    private static final AtomicReferenceArray<WordDictionary> ANSWERS_BY_LENGTH = new AtomicReferenceArray<>(MAX_LENGTH + 1);
+
+    private WordDictionary(long[] packed, int count, int wordLength) {
+        this(packed, count, wordLength, null);
+    }
+
+    // freq[i] belongs to packed[i] (0 = not given); both are reordered to the sorted word order
+    private WordDictionary(long[] packed, int count, int wordLength, float[] freq) {
+        long[] listed = freq == null ? null : Arrays.copyOf(packed, count);
+        Arrays.sort(packed, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || packed[unique - 1] != packed[i]) packed[unique++] = packed[i];
+        }
+        this.words = Arrays.copyOf(packed, unique);
+        this.wordLength = wordLength;
+        this.frequencies = freq == null ? null : align(listed, freq, count);
+    }
+
+    private float[] align(long[] listed, float[] freq, int count) {
+        float[] out = new float[words.length];
+        float rarest = Float.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            int idx = Arrays.binarySearch(words, listed[i]);
+            if (freq[i] > out[idx]) out[idx] = freq[i];
+            if (freq[i] > 0 && freq[i] < rarest) rarest = freq[i];
+        }
+        if (rarest == Float.MAX_VALUE) return null;
+        for (int i = 0; i < out.length; i++) if (out[i] <= 0) out[i] = rarest;
+        return out;
+    }
+
+    /** The bundled 5-letter dictionary. */
+    public static WordDictionary getDefault() {
+        return forLength(DEFAULT_LENGTH);
+    }
+
+    /** The bundled dictionary for a word length (4..8), loaded on first use. */
+    public static WordDictionary forLength(int wordLength) {
+        return load(BY_LENGTH, resourceFor(wordLength), wordLength);
+    }
+
+    /** The bundled 5-letter answer list. */
+    public static WordDictionary getDefaultAnswers() {
+        return answersForLength(DEFAULT_LENGTH);
+    }
+
+    /** The bundled answer list for a word length (4..8): the words secrets are picked from. */
+    public static WordDictionary answersForLength(int wordLength) {
+        return load(ANSWERS_BY_LENGTH, answersResourceFor(wordLength), wordLength);
+    }
+
+    private static WordDictionary load(AtomicReferenceArray<WordDictionary> cache, String resource, int wordLength) {
+        if (wordLength < MIN_LENGTH || wordLength > MAX_LENGTH) {
+            throw new IllegalArgumentException("Word length must be " + MIN_LENGTH + ".." + MAX_LENGTH + ": " + wordLength);
+        }
+        WordDictionary dict = cache.get(wordLength);
+        if (dict == null) {
+            synchronized (cache) {
+                dict = cache.get(wordLength);
+                if (dict == null) {
+                    dict = fromResource(resource, wordLength);
+                    cache.set(wordLength, dict);
+                }
+            }
+        }
+        return dict;
+    }
+
+    /** True once the dictionary for this length has been loaded. */
+    public static boolean isLoaded(int wordLength) {
+        return wordLength >= 0 && wordLength <= MAX_LENGTH && BY_LENGTH.get(wordLength) != null;
+    }
+
+    static String resourceFor(int wordLength) {
+        return wordLength == DEFAULT_LENGTH ? DEFAULT_RESOURCE : "/words" + wordLength + ".txt";
+    }
+
+    static String answersResourceFor(int wordLength) {
+        return wordLength == DEFAULT_LENGTH ? DEFAULT_ANSWERS_RESOURCE : "/answers" + wordLength + ".txt";
+    }
+
+    /** Loads a one-word-per-line classpath resource, keeping only words of the given length. */
+    public static WordDictionary fromResource(String resource, int wordLength) {
+        InputStream in = WordDictionary.class.getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalStateException("Dictionary resource not found: " + resource);
+        }
+        try (ReadableByteChannel ch = Channels.newChannel(in)) {
+            return read(ch, wordLength, 8192);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read dictionary " + resource, e);
+        }
+    }
+
+    /** Loads a one-word-per-line file (e.g. a bigger external list), keeping words of the given length. */
+    public static WordDictionary fromFile(Path file, int wordLength) throws IOException {
+        try (SeekableByteChannel ch = Files.newByteChannel(file)) {
+            // about 1 word per (length + 1) bytes, so the array rarely has to grow
+            int estimate = (int) Math.min(Integer.MAX_VALUE - 8, ch.size() / (wordLength + 1) + 16);
+            return read(ch, wordLength, estimate);
+        }
+    }
+
+    // single pass over the bytes: letters are packed as they arrive, an optional number after
+    // the word is its frequency, anything else but surrounding whitespace drops the line, and
+    // only lines of the wanted length are kept
+    private static WordDictionary read(ReadableByteChannel ch, int wordLength, int expected) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(READ_BUFFER);
+        long[] packed = new long[Math.max(16, expected)];
+        float[] freq = null; // allocated at the first line with a frequency
+        int count = 0;
+        long word = 0;
+        int len = 0;
+        boolean bad = false, ended = false; // ended: whitespace after the word seen
+        double number = 0; // frequency digits so far
+        int decimals = -1; // digits after the decimal point, -1 before it
+        boolean inNumber = false, numberEnded = false;
+        while (true) {
+            buf.clear();
+            int n = ch.read(buf);
+            if (n < 0) break;
+            byte[] bytes = buf.array();
+            for (int i = 0; i < n; i++) {
+                int c = bytes[i];
+                if (c == '\n') {
+                    if (!bad && len == wordLength) {
+                        if (count == packed.length) {
+                            packed = Arrays.copyOf(packed, count * 2);
+                            if (freq != null) freq = Arrays.copyOf(freq, count * 2);
+                        }
+                        if (inNumber) {
+                            if (freq == null) freq = new float[packed.length];
+                            freq[count] = (float) (decimals > 0 ? number / Math.pow(10, decimals) : number);
+                        }
+                        packed[count++] = word;
+                    }
+                    word = 0;
+                    len = 0;
+                    bad = ended = inNumber = numberEnded = false;
+                    number = 0;
+                    decimals = -1;
+                } else if (c == ' ' || c == '\t' || c == '\r') {
+                    ended = len > 0;
+                    numberEnded = inNumber;
+                } else if (bad) {
+                    continue;
+                } else if (ended && !numberEnded && (c >= '0' && c <= '9' || c == '.')) {
+                    if (c == '.') {
+                        if (decimals >= 0) bad = true;
+                        decimals = 0;
+                    } else {
+                        number = number * 10 + (c - '0');
+                        if (decimals >= 0) decimals++;
+                    }
+                    inNumber = true;
+                } else if (ended || len == WordCodec.MAX_LENGTH) {
+                    bad = true;
+                } else if (c >= 'a' && c <= 'z') {
+                    word |= (long) (c - 'a' + 1) << (5 * len++);
+                } else if (c >= 'A' && c <= 'Z') {
+                    word |= (long) (c - 'A' + 1) << (5 * len++);
+                } else {
+                    bad = true;
+                }
+            }
+        }
+        if (!bad && len == wordLength) { // last line without a newline
+            if (count == packed.length) {
+                packed = Arrays.copyOf(packed, count + 1);
+                if (freq != null) freq = Arrays.copyOf(freq, count + 1);
+            }
+            if (inNumber) {
+                if (freq == null) freq = new float[packed.length];
+                freq[count] = (float) (decimals > 0 ? number / Math.pow(10, decimals) : number);
+            }
+            packed[count++] = word;
+        }
+        return new WordDictionary(packed, count, wordLength, freq);
+    }
+
+    /** Builds a dictionary from an in-memory list (handy for tests and custom word lists). */
+    public static WordDictionary fromWords(Collection<String> list, int wordLength) {
+        long[] packed = new long[list.size()];
+        int count = 0;
+        for (String w : list) {
+            long p = WordCodec.encode(w);
+            if (p != WordCodec.INVALID && WordCodec.length(p) == wordLength) packed[count++] = p;
+        }
+        return new WordDictionary(packed, count, wordLength);
+    }
+
+    public boolean contains(String word) {
+        return indexOf(word) >= 0;
+    }
+
+    public boolean contains(long packed) {
+        return indexOf(packed) >= 0;
+    }
+
+    /** Index of the word in this dictionary, or a negative number if it is not present. */
+    public int indexOf(String word) {
+        long p = WordCodec.encode(word);
+        if (p == WordCodec.INVALID) return -1;
+        return indexOf(p);
+    }
+
+    public int indexOf(long packed) {
+        int idx = Arrays.binarySearch(words, packed);
+        return idx >= 0 ? idx : -1;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public long packedAt(int index) {
+        return words[index];
+    }
+
+    public String wordAt(int index) {
+        return WordCodec.decode(words[index]);
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    /** Whether the list came with a frequency column. */
+    public boolean hasFrequencies() {
+        return frequencies != null;
+    }
+
+    /** Relative frequency of the word at index (1 for every word of an unweighted list). */
+    public float frequency(int index) {
+        return frequencies == null ? 1f : frequencies[index];
+    }
+
+    /**
+     * Index of a word picked with probability proportional to its frequency (uniform for an
+     * unweighted list), for u uniform in [0, 1).
+     */
+    public int sampleIndex(double u) {
+        if (frequencies == null) return Math.min(words.length - 1, (int) (u * words.length));
+        double[] sums = cumulative;
+        if (sums == null) {
+            sums = new double[words.length];
+            double total = 0;
+            for (int i = 0; i < sums.length; i++) sums[i] = total += frequencies[i];
+            cumulative = sums; // racy but idempotent
+        }
+        int idx = Arrays.binarySearch(sums, u * sums[sums.length - 1]);
+        return Math.min(words.length - 1, idx >= 0 ? idx + 1 : -idx - 1);
+    }
+
+    /** Content hash of the word list, used to detect stale on-disk caches. */
+    public long fingerprint() {
+        long f = fingerprint;
+        if (f == 0) fingerprint = f = computeFingerprint(words, wordLength); // racy but idempotent
+        return f;
+    }
+
+    // 64-bit FNV-1a over the packed words
+    private static long computeFingerprint(long[] words, int wordLength) {
+        long h = 0xcbf29ce484222325L ^ wordLength;
+        for (long w : words) {
+            for (int b = 0; b < 8; b++) {
+                h ^= (w >>> (8 * b)) & 0xFF;
+                h *= 0x100000001b3L;
+            }
+        }
+        return h == 0 ? 1 : h;
+    }
+}
@@ -0,0 +1,129 @@
+package model;
+
+// WordScorer.java
+// Allocation-free Wordle scoring over packed words (see WordCodec). The feedback for a
+// whole guess is returned as one base-3 int: digit i (weight 3^i) is the result for
+// position i, ABSENT = 0, PRESENT = 1, CORRECT = 2. For five letters that is 0..242,
+// with 242 meaning "all green". Guess and all bulk solver paths share this code.
+
+public final class WordScorer {
+    public static final int ABSENT = 0;
+    public static final int PRESENT = 1;
+    public static final int CORRECT = 2;
+
+    private static final int[] POW3 = new int[WordCodec.MAX_LENGTH + 1];
+    private static final long[] FIELD_HIGHS = new long[WordCodec.MAX_LENGTH + 1]; // high bits of the first n fields
+    private static final long ONES; // lowest bit of every 5-bit field
+    private static final long HIGHS; // highest bit of every 5-bit field
+    private static final long LOWS; // low four bits of every 5-bit field
+    private static final LetterFeedback[] FEEDBACK = {
+            LetterFeedback.ABSENT, LetterFeedback.PRESENT, LetterFeedback.CORRECT
+    };
+    private static final char[] FEEDBACK_CHARS = {'.', 'Y', 'G'};
+
+    static {
+        POW3[0] = 1;
+        for (int i = 1; i < POW3.length; i++) POW3[i] = POW3[i - 1] * 3;
+        long ones = 0;
+        for (int i = 0; i < WordCodec.MAX_LENGTH; i++) {
+            ones |= 1L << (5 * i);
+            FIELD_HIGHS[i + 1] = (ones << 4);
+        }
+        ONES = ones;
+        HIGHS = ones << 4;
+        LOWS = ones * 15;
+    }
+
+    private WordScorer() {
+    }
+
+    /** Scores a guess against a secret of the same length. */
+    public static int score(long guess, long secret) {
+        return score(guess, secret, WordCodec.length(guess));
+    }
+
+    //2 pass approach to deal with duplicates, done with SWAR bit tricks on the packed longs:
+    //greens are the zero 5-bit fields of guess ^ secret, and each yellow claims the lowest
+    //unused matching letter from a "pool" of the secret's non-green letters
+    public static int score(long guess, long secret, int length) {
+        long diff = guess ^ secret;
+        long greens = ~(((diff & LOWS) + LOWS) | diff | LOWS) & HIGHS & FIELD_HIGHS[length];
+        long pool = secret & ~((greens >>> 4) * 31);
+
+        int pattern = 0;
+        for (int i = 0; i < length; i++) {
+            if ((greens & (16L << (5 * i))) != 0) {
+                pattern += CORRECT * POW3[i];
+                continue;
+            }
+            long x = pool ^ (((guess >>> (5 * i)) & 31) * ONES);
+            long match = (x - ONES) & ~x & HIGHS; // lowest set bit marks the first equal letter
+            if (match != 0) {
+                pool &= ~(31L << (Long.numberOfTrailingZeros(match) - 4));
+                pattern += PRESENT * POW3[i];
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * Scores one guess against many secrets in a single pass, writing out[i] for secrets[i]
+     * (multi-board games). The guess's length mask is looked up once, the green test covers
+     * all letters of a secret at a time, and nothing is allocated.
+     */
+    public static void scoreAll(long guess, long[] secrets, int length, int[] out) {
+        scoreAll(guess, secrets, secrets.length, length, out);
+    }
+
+    /** Same, over the first count secrets only (for reused buffers). */
+    public static void scoreAll(long guess, long[] secrets, int count, int length, int[] out) {
+        long fields = FIELD_HIGHS[length];
+
+        for (int s = 0; s < count; s++) {
+            long secret = secrets[s];
+            long diff = guess ^ secret;
+            long greens = ~(((diff & LOWS) + LOWS) | diff | LOWS) & HIGHS & fields;
+            long pool = secret & ~((greens >>> 4) * 31);
+            int pattern = 0;
+            for (int i = 0; i < length; i++) {
+                if ((greens & (16L << (5 * i))) != 0) {
+                    pattern += CORRECT * POW3[i];
+                    continue;
+                }
+                long x = pool ^ (((guess >>> (5 * i)) & 31) * ONES);
+                long match = (x - ONES) & ~x & HIGHS;
+                if (match != 0) {
+                    pool &= ~(31L << (Long.numberOfTrailingZeros(match) - 4));
+                    pattern += PRESENT * POW3[i];
+                }
+            }
+            out[s] = pattern;
+        }
+    }
+
+    /** Digit (ABSENT, PRESENT or CORRECT) for one position of a pattern. */
+    public static int digitAt(int pattern, int pos) {
+        return (pattern / POW3[pos]) % 3;
+    }
+
+    public static LetterFeedback feedbackAt(int pattern, int pos) {
+        return FEEDBACK[digitAt(pattern, pos)];
+    }
+
+    /** One char per letter, as the server and reports show it: G = correct, Y = present, . = absent. */
+    public static String feedbackString(int pattern, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) chars[i] = FEEDBACK_CHARS[digitAt(pattern, i)];
+        return new String(chars);
+    }
+
+    /** Number of distinct patterns for a word length (243 for five letters). */
+    public static int patternCount(int length) {
+        return POW3[length];
+    }
+
+    /** The all-green pattern for a word length. */
+    public static int allCorrect(int length) {
+        return POW3[length] - 1;
+    }
+}
@@ -5,99 +5,268 @@ import io.SaveLoad;
 // WordleModel.java
 // Handles the core game logic and state for Wordle, including secret word generation,
 // guess tracking, win/loss detection, and integration with save/load persistence.
+// Methods are synchronized so the controller can apply guesses from a background thread.
+// Word length (4..8, taken from the secret) and the guess limit are per game; the classic
+// game is 5 letters and 6 guesses. In hard mode a guess must keep revealed greens in place
+// and reuse revealed letters, checked against HardModeConstraints compiled from the feedback.
+// A daily game plays a shared DailyPuzzle: guesses are scored from the day's pattern row and
+// the first guess narrows the candidates with the day's shared bitset.
+// In adversarial ("Absurdle") mode the secret is not fixed: each guess gets the feedback that
+// keeps the most candidates (AdversarialSecret), and secretWord is only a stand-in from the
+// words still possible, replaced when the feedback rules it out. Daily games ignore the mode.
 
 public class WordleModel {
+    public static final int DEFAULT_MAX_GUESSES = 6;
+    public static final int MAX_GUESS_LIMIT = 12;
+
     private int gameScore;
     private int guessCount;
     private String secretWord;
-    private Guess[] guessesMade = new Guess[6];
+    private int maxGuesses;
+    private long startedAt = System.currentTimeMillis(); // for the game history
+    private Guess[] guessesMade;
+    private CandidateSet candidates; // words still possible, over the dictionary for the secret's length
+    private HardModeConstraints constraints; // feedback so far, compiled to masks
+    private boolean hardMode;
+    private DailyPuzzle daily; // null for random games
+    private boolean adversarial;
+    private AdversarialSecret adversary; // created on the first adversarial guess, per word length
+    private int gameNumber; // bumped by every new game, so views can tell games apart even with the same secret
 
     //CTORS
     public WordleModel() throws Exception { //main constructor
-        this.guessCount = 0;
-        //generate word
-        this.secretWord = RandomWordFetcher.fetchRandomWord().toLowerCase();
-
+        this(WordDictionary.DEFAULT_LENGTH, DEFAULT_MAX_GUESSES);
+    }
+    public WordleModel(int wordLength, int maxGuesses) { //random secret for a game variant
+        this(RandomWordFetcher.nextSecretWord(wordLength), maxGuesses);
     }
     public WordleModel(String secretWord){ //used for debugging purposes
+        this(secretWord, DEFAULT_MAX_GUESSES);
+    }
+    public WordleModel(DailyPuzzle puzzle){ //the shared puzzle of the day, over the puzzle's dictionary
+        this(puzzle.getSecretWord(), DEFAULT_MAX_GUESSES, puzzle.getDictionary());
+        this.daily = puzzle;
+    }
+    public WordleModel(String secretWord, int maxGuesses) {
+        this(secretWord, maxGuesses, WordDictionary.forLength(secretWord.length()));
+    }
+    private WordleModel(String secretWord, int maxGuesses, WordDictionary dictionary) {
+        if (maxGuesses < 1 || maxGuesses > MAX_GUESS_LIMIT) {
+            throw new IllegalArgumentException("Guess limit must be 1.." + MAX_GUESS_LIMIT + ": " + maxGuesses);
+        }
         this.guessCount = 0;
+        this.maxGuesses = maxGuesses;
+        this.guessesMade = new Guess[maxGuesses];
         this.secretWord = secretWord;
+        this.candidates = new CandidateSet(dictionary);
+        this.constraints = new HardModeConstraints(secretWord.length());
     }
 
-    public void makeGuess(String word) {
-        if (this.guessCount < 6) {
-            if (!RandomWordFetcher.isValidWord(word)) {
+    public synchronized void makeGuess(String word) {
+        if (this.guessCount < maxGuesses) {
+            if (!RandomWordFetcher.isValidWord(word, secretWord.length())) {
                 System.out.println("Invalid word. Please try again.");
                 return;
             }
-            Guess userGuess = new Guess(word.toLowerCase(), this.secretWord);
+            if (hardMode && !constraints.isHardModeGuess(WordCodec.encode(word))) {
+                return; //the controller reports the violation
+            }
+            Guess userGuess;
+            long[] shared = null;
+            boolean narrowed = false; // the adversary already kept its chosen candidates
+            if (daily != null) {
+                long packed = WordCodec.encode(word);
+                userGuess = new Guess(packed, daily.pattern(packed));
+                if (guessCount == 0) shared = daily.candidatesAfter(packed);
+            } else if (adversarial) {
+                userGuess = answerAdversarially(WordCodec.encode(word));
+                narrowed = true;
+            } else {
+                userGuess = new Guess(word.toLowerCase(), this.secretWord);
+            }
             this.guessesMade[guessCount] = userGuess;
             guessCount++;
+            if (shared != null) {
+                candidates.retain(shared);
+            } else if (!narrowed) {
+                candidates.retain(PatternMasks.forLength(secretWord.length()), userGuess);
+            }
+            constraints.add(userGuess);
         }
     }
 
-    public void resetGame() throws Exception { //for ui to enable continuous play
+    // the feedback that keeps the most candidates; the stand-in secret moves only if ruled out
+    private Guess answerAdversarially(long packed) {
+        WordDictionary dictionary = candidates.getDictionary();
+        if (adversary == null || adversary.getDictionary() != dictionary) adversary = new AdversarialSecret(dictionary);
+        int pattern = adversary.answer(packed, candidates);
+        int secret = dictionary.indexOf(secretWord);
+        if (secret < 0 || !candidates.contains(secret)) secretWord = dictionary.wordAt(candidates.nextSetBit(0));
+        return new Guess(packed, pattern);
+    }
+
+    public synchronized void restoreGuess(Guess saved) { //re-applies a guess loaded from disk
+        if (this.guessCount < maxGuesses) {
+            this.guessesMade[guessCount] = saved;
+            guessCount++;
+            candidates.retain(PatternMasks.forLength(secretWord.length()), saved);
+            constraints.add(saved);
+        }
+    }
+
+    public synchronized void resetGame() throws Exception { //for ui to enable continuous play
+        newGame(getWordLength(), maxGuesses);
+    }
+
+    //starts a new game of a (possibly different) variant, keeping the score
+    public synchronized void newGame(int wordLength, int maxGuesses) {
+        startGame(RandomWordFetcher.nextSecretWord(wordLength), maxGuesses);
+    }
+
+    //starts the shared puzzle of the day (classic 6 guesses), keeping the score
+    public synchronized void startDaily(DailyPuzzle puzzle) {
+        startGame(puzzle.getSecretWord(), DEFAULT_MAX_GUESSES, puzzle.getDictionary());
+        this.daily = puzzle;
+    }
+
+    //replaces the secret (and variant) and clears the board; used by loading and new games
+    public synchronized void startGame(String secretWord, int maxGuesses) {
+        startGame(secretWord, maxGuesses, WordDictionary.forLength(secretWord.length()));
+    }
+
+    //candidates are over dictionary: the bundled list, or a daily puzzle's own, so its bitsets line up
+    private void startGame(String secretWord, int maxGuesses, WordDictionary dictionary) {
+        if (maxGuesses < 1 || maxGuesses > MAX_GUESS_LIMIT) {
+            throw new IllegalArgumentException("Guess limit must be 1.." + MAX_GUESS_LIMIT + ": " + maxGuesses);
+        }
         this.guessCount = 0;
-        this.secretWord = RandomWordFetcher.fetchRandomWord();
-        for (int i = 0; i < 6; i++) {
-            this.guessesMade[i] = null;
+        this.gameNumber++;
+        this.secretWord = secretWord;
+        this.startedAt = System.currentTimeMillis();
+        this.maxGuesses = maxGuesses;
+        this.guessesMade = new Guess[maxGuesses];
+        this.daily = null;
+        if (candidates.getDictionary() == dictionary) {
+            candidates.reset();
+        } else {
+            candidates = new CandidateSet(dictionary);
+        }
+        if (constraints.getWordLength() == secretWord.length()) {
+            constraints.clear();
+        } else {
+            constraints = new HardModeConstraints(secretWord.length());
         }
     }
 
     //responsible for saving and loading
-    public void saveGame(){ //saves the current state of game to JSON
+    public void saveGame(){ //writes a full snapshot of the current game
         SaveLoad.saveState(this);
     }
-    public void loadGame(){ //loads the last saved state from JSON
+    public void loadGame(){ //loads the last saved state (snapshot + journal)
         SaveLoad.loadState(this);
     }
+    public void saveLastGuess(){ //appends the latest guess to the save journal
+        SaveLoad.recordGuess(this);
+    }
+    public void saveNewGame(){ //journals a reset: new secret word and current score
+        SaveLoad.recordNewGame(this);
+    }
 
     //these are the getters and setters and win/loss checkers
-    public Boolean isWon(){
+    public synchronized Boolean isWon(){
         if (this.guessCount==0){
             return false;
         }else {
-            return (this.guessesMade[this.guessCount - 1].getGuess().equals(secretWord) && this.guessCount <= 6);
+            return (this.guessesMade[this.guessCount - 1].getGuess().equals(secretWord) && this.guessCount <= maxGuesses);
         }
     }
-    public Boolean isLost(){
+    public synchronized Boolean isLost(){
         if (this.guessCount==0){
             return false;
         }else {
-            return (this.guessCount == 6 && !(this.secretWord.equals(this.guessesMade[guessCount - 1].getGuess())));
+            return (this.guessCount == maxGuesses && !(this.secretWord.equals(this.guessesMade[guessCount - 1].getGuess())));
         }
     }
-    public String getSecretWord(){
+    public synchronized String getSecretWord(){
         return this.secretWord;
     }
-    public Guess getLastGuess(){
+    public synchronized Guess getLastGuess(){
         if (this.guessCount > 0) {
             return this.guessesMade[guessCount - 1];
         }else{
             return null;
         }
     }
-    public Guess[] getGuesses(){
+    public synchronized Guess[] getGuesses(){
         return this.guessesMade;
     }
-    public int getGameScore(){
+    public synchronized int getGameScore(){
         return this.gameScore;
     }
-    public void setGameScore(int score){
+    public synchronized void setGameScore(int score){
         this.gameScore = score;
     }
-    public void setSecretWord(String word){
-        this.secretWord = word;
+    public synchronized void setSecretWord(String word){
+        if (word.length() != this.secretWord.length()) {
+            startGame(word, maxGuesses); //different length: the old guesses and candidates no longer apply
+        } else {
+            this.secretWord = word;
+            if (daily != null && !daily.getSecretWord().equals(word)) daily = null;
+        }
     }
-    public void incrementGameScore(){
+    public synchronized void incrementGameScore(){
         this.gameScore++;
     }
-    public int getGuessCount(){
+    public synchronized int getWordLength(){
+        return this.secretWord.length();
+    }
+    public synchronized int getMaxGuesses(){
+        return this.maxGuesses;
+    }
+    public synchronized long getStartedAt(){
+        return this.startedAt;
+    }
+    public synchronized int getGuessCount(){
         return this.guessCount;
     }
+    public synchronized int getGameNumber(){ //changes whenever a new game starts
+        return this.gameNumber;
+    }
+    public synchronized int getRemainingCount(){ //dictionary words still consistent with the feedback
+        return candidates.size();
+    }
+    public synchronized CandidateSet getCandidates(){
+        return this.candidates;
+    }
+    public synchronized CandidateSet copyCandidates(){ //consistent snapshot for other threads
+        return this.candidates.copy();
+    }
+    public synchronized DailyPuzzle getDailyPuzzle(){ //null unless this is a daily game
+        return this.daily;
+    }
+    public synchronized boolean isHardMode(){
+        return this.hardMode;
+    }
+    public synchronized void setHardMode(boolean hardMode){
+        this.hardMode = hardMode;
+    }
+    public synchronized boolean isAdversarial(){
+        return this.adversarial;
+    }
+    public synchronized void setAdversarial(boolean adversarial){ //takes effect from the next guess
+        this.adversarial = adversarial;
+    }
+    public synchronized String hardModeViolation(String word){ //null when the guess keeps to hard mode
+        long packed = WordCodec.encode(word);
+        if (packed == WordCodec.INVALID) return "Guess must contain only letters";
+        return constraints.hardModeViolation(packed);
+    }
+    public synchronized HardModeConstraints copyConstraints(){
+        return this.constraints.copy();
+    }
 
     // Optional helper used for testing purposes only
-    public void setWon(boolean won) {
+    public synchronized void setWon(boolean won) {
         // Forces win/loss state for testing (no effect in normal gameplay)
         if (won && guessCount == 0) {
             // Creates a fake winning guess if needed
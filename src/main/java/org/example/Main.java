@@ -1,11 +1,22 @@
 package org.example;
 
 import javax.swing.SwingUtilities;
+import model.SecretWordPool;
+import model.WordDictionary;
+import view.MultiBoardWordle;
 import view.SwingWordle;
 
 
 public class Main {
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(SwingWordle::new);
+        WordDictionary.getDefault(); // load the word list once, before the UI needs it
+        SecretWordPool.getDefault().refillAsync(); // start fetching secrets in the background
+        int boards = Integer.getInteger("wordle.boards", 1);
+        if (boards > 1) {
+            int length = Integer.getInteger("wordle.length", WordDictionary.DEFAULT_LENGTH);
+            SwingUtilities.invokeLater(() -> new MultiBoardWordle(boards, length));
+        } else {
+            SwingUtilities.invokeLater(SwingWordle::new);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,246 @@
+package server;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import control.GuessResult;
+import model.Guess;
+import model.WordDictionary;
+import model.WordScorer;
+import model.WordleModel;
+import solver.Hint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GameServer
+ * ----------
+ * Hosts many concurrent games over a small HTTP/JSON API (JDK HttpServer, no extra deps):
+ *
+ *   POST   /games               start a game            -> {"id": ...}
+ *                                optional body {"length": 6, "maxGuesses": 7, "hardMode": true,
+ *                                "adversarial": true}
+ *                                or {"daily": true} for today's shared puzzle
+ *   GET    /games/{id}          current state
+ *   POST   /games/{id}/guess    body {"word": "crane"}  -> status, pattern, feedback, state
+ *   GET    /games/{id}/hint     suggested next guess    -> word, bits, remaining
+ *   DELETE /games/{id}          end the session         -> final state
+ *
+ * Requests are handled on a fixed pool of worker threads; games live in a SessionManager.
+ *
+ * Usage: java -cp target/classes:gson.jar server.GameServer [--port P] [--threads T]
+ */
+public class GameServer {
+    public static final int DEFAULT_PORT = 8080;
+
+    private static final Gson GSON = new Gson();
+
+    private final HttpServer http;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService sweeper;
+    private final SessionManager sessions;
+
+    public GameServer(InetSocketAddress address, SessionManager sessions, int threads) throws IOException {
+        // headers and body are written separately; without TCP_NODELAY every response waits on delayed ACKs
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.sessions = sessions;
+        this.http = HttpServer.create(address, 1024);
+        AtomicInteger n = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "wordle-server-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "wordle-session-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        http.setExecutor(workers);
+        http.createContext("/games", this::handle);
+    }
+
+    public void start() {
+        http.start();
+        sweeper.scheduleWithFixedDelay(sessions::evictIdle, 1, 1, TimeUnit.MINUTES);
+    }
+
+    public void stop() {
+        http.stop(0);
+        sweeper.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public int getPort() {
+        return http.getAddress().getPort();
+    }
+
+    public SessionManager getSessions() {
+        return sessions;
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        try {
+            String[] parts = ex.getRequestURI().getPath().split("/"); // "", "games", id, action
+            String method = ex.getRequestMethod();
+            if (parts.length == 2) {
+                if (!method.equals("POST")) { send(ex, 405, error("Use POST to start a game")); return; }
+                JsonObject body = readBody(ex);
+                GameSession session = body == null ? sessions.create()
+                        : body.has("daily") && body.get("daily").getAsBoolean() ? sessions.createDaily()
+                        : sessions.create(
+                        body.has("length") ? body.get("length").getAsInt() : WordDictionary.DEFAULT_LENGTH,
+                        body.has("maxGuesses") ? body.get("maxGuesses").getAsInt() : WordleModel.DEFAULT_MAX_GUESSES);
+                if (body != null && body.has("hardMode")) session.getModel().setHardMode(body.get("hardMode").getAsBoolean());
+                if (body != null && body.has("adversarial")) {
+                    session.getModel().setAdversarial(body.get("adversarial").getAsBoolean());
+                }
+                send(ex, 201, state(session));
+                return;
+            }
+            GameSession session = parts.length >= 3 ? sessions.get(parts[2]) : null;
+            if (session == null) { send(ex, 404, error("No such game")); return; }
+
+            if (parts.length == 3 && method.equals("GET")) {
+                send(ex, 200, state(session));
+            } else if (parts.length == 3 && method.equals("DELETE")) {
+                JsonObject json = state(session);
+                json.addProperty("deleted", sessions.remove(session.getId()));
+                send(ex, 200, json);
+            } else if (parts.length == 4 && parts[3].equals("guess") && method.equals("POST")) {
+                send(ex, 200, guess(session, readWord(ex)));
+            } else if (parts.length == 4 && parts[3].equals("hint") && method.equals("GET")) {
+                send(ex, 200, hint(session));
+            } else {
+                send(ex, 405, error("Unsupported request"));
+            }
+        } catch (IllegalArgumentException | JsonParseException e) {
+            send(ex, 400, error(e.getMessage()));
+        } catch (SessionLimitException e) {
+            send(ex, 503, error(e.getMessage()));
+        } catch (RuntimeException e) {
+            send(ex, 500, error(e.toString()));
+        }
+    }
+
+    private static String readWord(HttpExchange ex) throws IOException {
+        JsonObject body = readBody(ex);
+        if (body == null || !body.has("word")) throw new IllegalArgumentException("Body must be {\"word\": ...}");
+        return body.get("word").getAsString();
+    }
+
+    // null for an empty body
+    private static JsonObject readBody(HttpExchange ex) throws IOException {
+        try (InputStream in = ex.getRequestBody()) {
+            return GSON.fromJson(new String(in.readAllBytes(), StandardCharsets.UTF_8), JsonObject.class);
+        }
+    }
+
+    private static JsonObject guess(GameSession session, String word) {
+        GuessResult result = session.getController().submitGuess(word.toLowerCase()).join();
+        JsonObject json = state(session);
+        json.addProperty("status", result.getStatus().name());
+        if (result.getMessage() != null) json.addProperty("message", result.getMessage());
+        if (result.isAccepted()) {
+            json.addProperty("pattern", result.getGuess().getPattern());
+            json.addProperty("feedback", WordScorer.feedbackString(result.getGuess().getPattern(), word.length()));
+        }
+        return json;
+    }
+
+    // answered from the precomputed decision tree while the game follows it, computed otherwise
+    private static JsonObject hint(GameSession session) {
+        Hint hint;
+        try {
+            hint = session.getController().requestHint().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UnsupportedOperationException) throw new IllegalArgumentException(e.getCause().getMessage());
+            throw e;
+        }
+        JsonObject json = new JsonObject();
+        json.addProperty("id", session.getId());
+        if (hint == null) {
+            json.add("word", JsonNull.INSTANCE);
+            json.addProperty("remaining", 0);
+        } else {
+            json.addProperty("word", hint.getWord());
+            json.addProperty("bits", hint.getBits());
+            json.addProperty("remaining", hint.getRemaining());
+        }
+        return json;
+    }
+
+    private static JsonObject state(GameSession session) {
+        WordleModel model = session.getModel();
+        JsonObject json = new JsonObject();
+        synchronized (model) {
+            json.addProperty("id", session.getId());
+            json.addProperty("length", model.getWordLength());
+            json.addProperty("maxGuesses", model.getMaxGuesses());
+            json.addProperty("hardMode", model.isHardMode());
+            json.addProperty("adversarial", model.isAdversarial());
+            if (model.getDailyPuzzle() != null) json.addProperty("daily", model.getDailyPuzzle().getNumber());
+            JsonArray guesses = new JsonArray();
+            for (int i = 0; i < model.getGuessCount(); i++) {
+                Guess g = model.getGuesses()[i];
+                JsonObject row = new JsonObject();
+                row.addProperty("word", g.getGuess());
+                row.addProperty("pattern", g.getPattern());
+                row.addProperty("feedback", WordScorer.feedbackString(g.getPattern(), g.getGuess().length()));
+                guesses.add(row);
+            }
+            json.add("guesses", guesses);
+            json.addProperty("won", model.isWon());
+            json.addProperty("lost", model.isLost());
+            json.addProperty("remaining", model.getRemainingCount());
+            if (model.isWon() || model.isLost()) json.addProperty("secret", model.getSecretWord());
+        }
+        return json;
+    }
+
+    private static JsonObject error(String message) {
+        JsonObject json = new JsonObject();
+        json.addProperty("error", message);
+        return json;
+    }
+
+    private static void send(HttpExchange ex, int status, JsonObject body) throws IOException {
+        byte[] bytes = GSON.toJson(body).getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        int threads = Runtime.getRuntime().availableProcessors() * 4;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--port": port = Integer.parseInt(args[i + 1]); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        GameServer server = new GameServer(new InetSocketAddress("localhost", port), new SessionManager(), threads);
+        server.start();
+        System.out.println("Wordle server listening on http://localhost:" + server.getPort() + "/games");
+    }
+}
@@ -0,0 +1,31 @@
+package server;
+
+import control.WordleController;
+import model.WordleModel;
+
+// GameSession.java
+// One player's game hosted by the server: a model, the controller that validates and
+// applies guesses to it, and the last time it was used (for idle eviction).
+
+public class GameSession {
+    private final String id;
+    private final WordleModel model;
+    private final WordleController controller;
+    private volatile long lastAccess;
+
+    GameSession(String id, WordleModel model) {
+        this.id = id;
+        this.model = model;
+        this.controller = new WordleController(model); // runs guesses on the calling request thread
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+    void touch() {
+        lastAccess = System.currentTimeMillis();
+    }
+
+    public String getId() { return id; }
+    public WordleModel getModel() { return model; }
+    public WordleController getController() { return controller; }
+    public long getLastAccess() { return lastAccess; }
+}
@@ -0,0 +1,211 @@
+package server;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import model.CandidateSet;
+import model.Guess;
+import model.PatternMasks;
+import model.WordDictionary;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LoadClient
+ * ----------
+ * Load generator for GameServer. Each client thread plays whole games over HTTP, picking
+ * a random word still consistent with the feedback it got back, and records the latency
+ * of every request. The report gives throughput and p50/p99/max latency.
+ *
+ * Usage: java -cp ... server.LoadClient [--url http://localhost:8080] [--clients C]
+ *        [--games N] [--seed S]      (without --url an in-process server is started)
+ */
+public class LoadClient {
+    private static final Gson GSON = new Gson();
+
+    private final URI base;
+    private final HttpClient http;
+
+    public LoadClient(URI base) {
+        this.base = base;
+        this.http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    /** Latency and throughput summary of one load run. */
+    public static class Report {
+        private final long[] latencies; // nanos, sorted
+        private final long elapsedNanos;
+        private final int games;
+        private final int wins;
+
+        Report(long[] latencies, long elapsedNanos, int games, int wins) {
+            this.latencies = latencies;
+            this.elapsedNanos = elapsedNanos;
+            this.games = games;
+            this.wins = wins;
+        }
+
+        public int getGames() { return games; }
+        public int getWins() { return wins; }
+        public int getRequests() { return latencies.length; }
+        public double getRequestsPerSecond() { return elapsedNanos == 0 ? 0 : latencies.length * 1e9 / elapsedNanos; }
+
+        /** Latency at the given percentile (0..100), in microseconds. */
+        public double percentile(double p) {
+            if (latencies.length == 0) return 0;
+            int i = (int) Math.ceil(p / 100 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(latencies.length - 1, i))] / 1e3;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("games=%d wins=%d requests=%d time=%.2fs throughput=%.0f req/s%n"
+                            + "latency p50=%.0fus p99=%.0fus max=%.0fus",
+                    games, wins, latencies.length, elapsedNanos / 1e9, getRequestsPerSecond(),
+                    percentile(50), percentile(99), percentile(100));
+        }
+    }
+
+    /** Plays games spread over the given number of client threads. */
+    public Report run(int clients, int games, long seed) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger wins = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int c = 0; c < clients; c++) {
+                Random rnd = new Random(seed + c);
+                futures.add(pool.submit(() -> {
+                    LatencyLog log = new LatencyLog();
+                    while (next.getAndIncrement() < games) {
+                        if (play(rnd, log)) wins.incrementAndGet();
+                    }
+                    return log.toArray();
+                }));
+            }
+            List<long[]> logs = new ArrayList<>();
+            for (Future<long[]> f : futures) {
+                try {
+                    logs.add(f.get());
+                } catch (java.util.concurrent.ExecutionException e) {
+                    throw new IllegalStateException("Load client failed", e.getCause());
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            long[] all = logs.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Report(all, elapsed, games, wins.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // one full game; returns true if it was won
+    private boolean play(Random rnd, LatencyLog log) throws IOException, InterruptedException {
+        JsonObject game = send("POST", "/games", null, log);
+        String id = game.get("id").getAsString();
+        WordDictionary dict = WordDictionary.getDefault();
+        CandidateSet candidates = new CandidateSet(dict);
+        try {
+            while (true) {
+                int pick = pickCandidate(candidates, rnd);
+                if (pick < 0) return false; // secret is not in the local dictionary
+                long packed = dict.packedAt(pick);
+                JsonObject body = new JsonObject();
+                body.addProperty("word", dict.wordAt(pick));
+                JsonObject state = send("POST", "/games/" + id + "/guess", body, log);
+                if (!"ACCEPTED".equals(state.get("status").getAsString())) {
+                    throw new IllegalStateException("Guess rejected: " + state);
+                }
+                if (state.get("won").getAsBoolean()) return true;
+                if (state.get("lost").getAsBoolean()) return false;
+                candidates.retain(PatternMasks.getDefault(), new Guess(packed, state.get("pattern").getAsInt()));
+            }
+        } finally {
+            send("DELETE", "/games/" + id, null, log);
+        }
+    }
+
+    private static int pickCandidate(CandidateSet candidates, Random rnd) {
+        int size = candidates.size();
+        if (size == 0) return -1;
+        int skip = rnd.nextInt(size);
+        int i = candidates.nextSetBit(0);
+        while (skip-- > 0) i = candidates.nextSetBit(i + 1);
+        return i;
+    }
+
+    private JsonObject send(String method, String path, JsonObject body, LatencyLog log)
+            throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(GSON.toJson(body));
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(path)).method(method, publisher)
+                .header("Content-Type", "application/json").build();
+        long t0 = System.nanoTime();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        log.add(System.nanoTime() - t0);
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(method + " " + path + " -> " + response.statusCode() + " " + response.body());
+        }
+        return response.body().isEmpty() ? new JsonObject() : GSON.fromJson(response.body(), JsonObject.class);
+    }
+
+    // growable per-thread latency buffer, merged once at the end of a run
+    private static class LatencyLog {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long nanos) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = nanos;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        int clients = 16;
+        int games = 2000;
+        long seed = 1;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--url": url = args[i + 1]; break;
+                case "--clients": clients = Integer.parseInt(args[i + 1]); break;
+                case "--games": games = Integer.parseInt(args[i + 1]); break;
+                case "--seed": seed = Long.parseLong(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        GameServer embedded = null;
+        if (url == null) { // self-contained run against a local server using dictionary secrets
+            WordDictionary dict = WordDictionary.getDefault();
+            Random rnd = new Random(~seed); // not the clients' seed, or they would guess the secret
+            embedded = new GameServer(new InetSocketAddress("localhost", 0), new SessionManager(
+                    () -> dict.wordAt(rnd.nextInt(dict.size())), SessionManager.DEFAULT_MAX_SESSIONS,
+                    SessionManager.DEFAULT_IDLE_MILLIS), Runtime.getRuntime().availableProcessors() * 4);
+            embedded.start();
+            url = "http://localhost:" + embedded.getPort();
+        }
+        try {
+            System.out.println(new LoadClient(URI.create(url)).run(clients, games, seed));
+        } finally {
+            if (embedded != null) embedded.stop();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package server;
+
+// SessionLimitException.java
+// Thrown when a new game cannot start because the server already hosts its maximum number
+// of sessions and none is idle long enough to evict; the server answers 503.
+
+public class SessionLimitException extends IllegalStateException {
+    public SessionLimitException(int maxSessions) {
+        super("Too many active games (" + maxSessions + ")");
+    }
+}
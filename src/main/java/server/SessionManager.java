@@ -0,0 +1,105 @@
+package server;
+
+import control.DailyPuzzleService;
+import model.RandomWordFetcher;
+import model.WordDictionary;
+import model.WordleModel;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * SessionManager
+ * --------------
+ * Holds every live game of the server in a ConcurrentHashMap, so lookups from many
+ * request threads never block each other (each game is then guarded by its own model's
+ * lock). Sessions idle for longer than the timeout are evicted, and creation fails once
+ * maxSessions is reached and nothing can be evicted. Daily games all play the same
+ * DailyPuzzle and share its hint cache.
+ */
+public class SessionManager {
+    public static final int DEFAULT_MAX_SESSIONS = 100_000;
+    public static final long DEFAULT_IDLE_MILLIS = 30 * 60 * 1000L;
+
+    private final ConcurrentHashMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final Supplier<String> secrets;
+    private final int maxSessions;
+    private final long idleMillis;
+    private final DailyPuzzleService daily; // null: the default service, started on first use
+
+    public SessionManager() {
+        this(RandomWordFetcher::nextSecretWord, DEFAULT_MAX_SESSIONS, DEFAULT_IDLE_MILLIS);
+    }
+
+    public SessionManager(Supplier<String> secrets, int maxSessions, long idleMillis) {
+        this(secrets, maxSessions, idleMillis, null);
+    }
+
+    public SessionManager(Supplier<String> secrets, int maxSessions, long idleMillis, DailyPuzzleService daily) {
+        this.secrets = secrets;
+        this.maxSessions = maxSessions;
+        this.idleMillis = idleMillis;
+        this.daily = daily;
+    }
+
+    /** Starts a new classic game; throws SessionLimitException when the server is full. */
+    public GameSession create() {
+        return create(WordDictionary.DEFAULT_LENGTH, WordleModel.DEFAULT_MAX_GUESSES);
+    }
+
+    /**
+     * Starts a game of the given variant. Classic-length secrets come from the configured
+     * supplier, other lengths from that length's dictionary.
+     */
+    public GameSession create(int wordLength, int maxGuesses) {
+        ensureCapacity();
+        String secret = wordLength == WordDictionary.DEFAULT_LENGTH
+                ? secrets.get() : RandomWordFetcher.nextSecretWord(wordLength);
+        return register(new WordleModel(secret, maxGuesses));
+    }
+
+    /** Starts a game of today's shared puzzle. */
+    public GameSession createDaily() {
+        ensureCapacity();
+        DailyPuzzleService.Day day = (daily != null ? daily : DailyPuzzleService.getDefault()).today();
+        GameSession session = register(new WordleModel(day.getPuzzle()));
+        session.getController().setHintCache(day.getHints());
+        return session;
+    }
+
+    private void ensureCapacity() {
+        if (sessions.size() >= maxSessions && evictIdle() == 0) throw new SessionLimitException(maxSessions);
+    }
+
+    private GameSession register(WordleModel model) {
+        while (true) {
+            String id = Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE);
+            GameSession session = new GameSession(id, model);
+            if (sessions.putIfAbsent(id, session) == null) return session;
+        }
+    }
+
+    /** The session with this id, or null if it does not exist (or was evicted). */
+    public GameSession get(String id) {
+        GameSession session = sessions.get(id);
+        if (session != null) session.touch();
+        return session;
+    }
+
+    public boolean remove(String id) {
+        return sessions.remove(id) != null;
+    }
+
+    /** Drops sessions idle for longer than the timeout; returns how many were removed. */
+    public int evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        int before = sessions.size();
+        sessions.values().removeIf(s -> s.getLastAccess() < cutoff);
+        return Math.max(0, before - sessions.size());
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+}
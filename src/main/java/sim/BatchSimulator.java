@@ -0,0 +1,100 @@
+package sim;
+
+import model.WordDictionary;
+import model.WordleModel;
+import solver.Strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * BatchSimulator
+ * --------------
+ * Headless mode: plays many games with a Strategy, no Swing and no network.
+ * Secrets come from the local dictionary (every word once, or a seeded sample with
+ * replacement), games are split into chunks across a fixed thread pool, and the result
+ * is a SimulationReport with throughput, win rate and guess distribution.
+ *
+ * Usage: java -cp target/classes sim.BatchSimulator [--strategy entropy|tree|random]
+ *        [--games N] [--threads T] [--seed S] [--length L]
+ */
+public class BatchSimulator {
+    private final Strategy strategy;
+    private final int threads;
+
+    public BatchSimulator(Strategy strategy, int threads) {
+        this.strategy = strategy;
+        this.threads = threads;
+    }
+
+    /** Plays one game per secret. */
+    public SimulationReport run(List<String> secrets) throws InterruptedException {
+        SimulationReport report = new SimulationReport(strategy.getName());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            int chunk = Math.max(1, secrets.size() / (threads * 8));
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 0; from < secrets.size(); from += chunk) {
+                List<String> slice = secrets.subList(from, Math.min(secrets.size(), from + chunk));
+                futures.add(executor.submit(() -> {
+                    for (String secret : slice) report.record(play(secret));
+                }));
+            }
+            for (Future<?> f : futures) {
+                try {
+                    f.get();
+                } catch (java.util.concurrent.ExecutionException e) {
+                    throw new IllegalStateException("Simulation failed", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /** Plays a single game; returns the number of guesses on a win, 0 on a loss. */
+    public int play(String secret) {
+        WordleModel model = new WordleModel(secret);
+        while (!model.isWon() && !model.isLost()) {
+            model.makeGuess(strategy.nextGuess(model));
+        }
+        return model.isWon() ? model.getGuessCount() : 0;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String strategyName = "entropy";
+        int games = -1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1;
+        int length = WordDictionary.DEFAULT_LENGTH;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--strategy": strategyName = args[i + 1]; break;
+                case "--games": games = Integer.parseInt(args[i + 1]); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                case "--seed": seed = Long.parseLong(args[i + 1]); break;
+                case "--length": length = Integer.parseInt(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        WordDictionary dict = WordDictionary.forLength(length);
+        List<String> secrets = new ArrayList<>();
+        if (games < 0) {
+            for (int i = 0; i < dict.size(); i++) secrets.add(dict.wordAt(i));
+        } else {
+            Random rnd = new Random(seed);
+            for (int i = 0; i < games; i++) secrets.add(dict.wordAt(rnd.nextInt(dict.size())));
+        }
+
+        BatchSimulator sim = new BatchSimulator(Strategy.byName(strategyName), threads);
+        System.out.println(sim.run(secrets));
+    }
+}
@@ -0,0 +1,259 @@
+package sim;
+
+import io.SaveState;
+import io.SaveStateReader;
+import model.CandidateSet;
+import model.Guess;
+import model.PatternMasks;
+import model.PatternTable;
+import model.WordCodec;
+import model.WordDictionary;
+import model.WordScorer;
+import model.WordleModel;
+import solver.EntropySolver;
+import solver.Hint;
+import solver.HintCache;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * ReplayAnalyzer
+ * --------------
+ * Scores saved games (the SaveState JSON format) in bulk. Every guess is re-scored against
+ * the secret and compared with the solver's best guess for the candidates left at that
+ * point: skill is the guess's expected information over the best guess's, luck is the
+ * information the feedback actually gave minus what was expected. One row per guess goes
+ * to CSV or JSON Lines, and the totals to a ReplayReport. Adversarial games are skipped:
+ * their feedback was chosen against the player, not scored against a fixed secret.
+ *
+ * Games are streamed: a batch at a time is read and handed to a fixed thread pool, with at
+ * most two batches per thread in flight, so memory stays flat however large the dump is.
+ * Rows are written in input order. Best guesses for large candidate sets (the ones after
+ * popular openers, which repeat across games) are shared through a HintCache.
+ *
+ * Usage: java -cp target/classes sim.ReplayAnalyzer --in FILE|- [--out FILE] [--format csv|json]
+ *        [--threads T] [--summary FILE]
+ */
+public class ReplayAnalyzer {
+    public enum Format { CSV, JSON }
+
+    public static final String CSV_HEADER =
+            "game,turn,guess,feedback,remaining_before,remaining_after,guess_bits,best_guess,best_bits,actual_bits,skill,luck\n";
+
+    private static final int BATCH_SIZE = 512;
+    private static final int CACHE_THRESHOLD = 64; // smaller sets are cheap to rank again
+    private static final int CACHE_SIZE = 8192;
+
+    private final int threads;
+    private final HintCache bestGuesses = new HintCache(CACHE_SIZE);
+    private final AtomicReferenceArray<EntropySolver> solvers =
+            new AtomicReferenceArray<>(PatternTable.MAX_WORD_LENGTH + 1);
+
+    public ReplayAnalyzer(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Analyses every game the reader yields. Per-guess rows are written to out in input
+     * order (out may be null for the report alone); out is flushed but not closed.
+     */
+    public ReplayReport run(SaveStateReader in, Writer out, Format format) throws IOException, InterruptedException {
+        ReplayReport report = new ReplayReport();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        ArrayDeque<Future<StringBuilder>> inFlight = new ArrayDeque<>();
+        long start = System.nanoTime();
+        try {
+            if (out != null && format == Format.CSV) out.write(CSV_HEADER);
+            long first = 1;
+            List<SaveState> batch = new ArrayList<>(BATCH_SIZE);
+            SaveState game;
+            while ((game = in.next()) != null) {
+                batch.add(game);
+                if (batch.size() < BATCH_SIZE) continue;
+                inFlight.add(submit(executor, batch, first, out != null ? format : null, report));
+                first += batch.size();
+                batch = new ArrayList<>(BATCH_SIZE);
+                if (inFlight.size() >= threads * 2) write(inFlight.poll(), out);
+            }
+            if (!batch.isEmpty()) inFlight.add(submit(executor, batch, first, out != null ? format : null, report));
+            while (!inFlight.isEmpty()) write(inFlight.poll(), out);
+            if (out != null) out.flush();
+        } finally {
+            executor.shutdownNow();
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    private Future<StringBuilder> submit(ExecutorService executor, List<SaveState> batch, long first, Format format,
+                                         ReplayReport report) {
+        return executor.submit(() -> {
+            StringBuilder rows = format == null ? null : new StringBuilder(batch.size() * 512);
+            for (int i = 0; i < batch.size(); i++) analyze(batch.get(i), first + i, format, rows, report);
+            return rows;
+        });
+    }
+
+    private static void write(Future<StringBuilder> batch, Writer out) throws IOException, InterruptedException {
+        StringBuilder rows;
+        try {
+            rows = batch.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Replay failed", e.getCause());
+        }
+        if (rows != null) out.append(rows);
+    }
+
+    /** Replays one game into the report (and rows, unless null); unusable saves are skipped. */
+    void analyze(SaveState save, long number, Format format, StringBuilder rows, ReplayReport report) {
+        long secret = WordCodec.encode(save.getSecretWord());
+        List<String> words = save.getGuessesMade();
+        int length = secret == WordCodec.INVALID ? 0 : WordCodec.length(secret);
+        if (words == null || save.isAdversarial() || length < WordDictionary.MIN_LENGTH
+                || length > PatternTable.MAX_WORD_LENGTH) {
+            report.skip();
+            return;
+        }
+        WordDictionary dictionary = WordDictionary.forLength(length);
+        long[] guesses = new long[words.size()];
+        for (int i = 0; i < guesses.length; i++) {
+            guesses[i] = WordCodec.encode(words.get(i));
+            if (guesses[i] == WordCodec.INVALID || WordCodec.length(guesses[i]) != length) guesses[i] = WordCodec.INVALID;
+        }
+        if (!dictionary.contains(secret) || contains(guesses, WordCodec.INVALID)) {
+            report.skip();
+            return;
+        }
+
+        EntropySolver solver = solverFor(length);
+        PatternMasks masks = PatternMasks.forLength(length);
+        int allCorrect = WordScorer.allCorrect(length);
+        CandidateSet candidates = new CandidateSet(dictionary);
+        int[] before = candidates.toIndices();
+        double weightBefore = weight(dictionary, before);
+        boolean won = false;
+        int turn = 0;
+        while (turn < guesses.length && !won) {
+            long guess = guesses[turn];
+            double guessBits = solver.bits(guess, before);
+            Hint best = bestGuess(solver, candidates, before);
+            int pattern = WordScorer.score(guess, secret, length);
+            candidates.retain(masks, new Guess(guess, pattern));
+            int[] after = candidates.toIndices();
+            double weightAfter = weight(dictionary, after);
+            double actualBits = Math.log(weightBefore / weightAfter) / Math.log(2);
+            won = pattern == allCorrect;
+            double skill = best.getBits() > 0 ? Math.min(1, guessBits / best.getBits()) : (won ? 1 : 0);
+            double luck = actualBits - guessBits;
+            report.turn(turn, before.length, skill, luck);
+            if (rows != null) {
+                row(rows, format, number, turn + 1, WordCodec.decode(guess), WordScorer.feedbackString(pattern, length),
+                        before.length, after.length, guessBits, best.getWord(), best.getBits(), actualBits, skill, luck);
+            }
+            before = after;
+            weightBefore = weightAfter;
+            turn++;
+        }
+        int maxGuesses = save.getMaxGuesses() > 0 ? save.getMaxGuesses() : WordleModel.DEFAULT_MAX_GUESSES;
+        report.game(guesses.length > 0 ? guesses[0] : WordCodec.INVALID, won, !won && turn >= maxGuesses, turn);
+    }
+
+    // the solver's pick for the current candidates, shared across games for the big sets
+    private Hint bestGuess(EntropySolver solver, CandidateSet candidates, int[] indices) {
+        if (indices.length == 1) return new Hint(candidates.getDictionary().wordAt(indices[0]), 0, 1);
+        boolean cached = indices.length >= CACHE_THRESHOLD;
+        Hint best = cached ? bestGuesses.get(candidates) : null;
+        if (best == null) {
+            best = solver.rank(indices, 1).get(0);
+            if (cached) bestGuesses.put(candidates.copy(), best);
+        }
+        return best;
+    }
+
+    private EntropySolver solverFor(int length) {
+        EntropySolver solver = solvers.get(length);
+        if (solver == null) {
+            // single-threaded ranking: the games themselves are spread over the pool
+            solvers.compareAndSet(length, null, new EntropySolver(PatternTable.forLength(length), null));
+            solver = solvers.get(length);
+        }
+        return solver;
+    }
+
+    // frequency mass of the candidates (their count for an unweighted dictionary)
+    private static double weight(WordDictionary dictionary, int[] indices) {
+        if (!dictionary.hasFrequencies()) return indices.length;
+        double sum = 0;
+        for (int i : indices) sum += dictionary.frequency(i);
+        return sum;
+    }
+
+    private static boolean contains(long[] values, long value) {
+        for (long v : values) if (v == value) return true;
+        return false;
+    }
+
+    private static void row(StringBuilder rows, Format format, long game, int turn, String guess, String feedback,
+                            int before, int after, double guessBits, String best, double bestBits, double actualBits,
+                            double skill, double luck) {
+        if (format == Format.CSV) {
+            rows.append(String.format(Locale.ROOT, "%d,%d,%s,%s,%d,%d,%.4f,%s,%.4f,%.4f,%.4f,%.4f%n",
+                    game, turn, guess, feedback, before, after, guessBits, best, bestBits, actualBits, skill, luck));
+        } else {
+            rows.append(String.format(Locale.ROOT, "{\"game\":%d,\"turn\":%d,\"guess\":\"%s\",\"feedback\":\"%s\","
+                            + "\"remainingBefore\":%d,\"remainingAfter\":%d,\"guessBits\":%.4f,\"bestGuess\":\"%s\","
+                            + "\"bestBits\":%.4f,\"actualBits\":%.4f,\"skill\":%.4f,\"luck\":%.4f}%n",
+                    game, turn, guess, feedback, before, after, guessBits, best, bestBits, actualBits, skill, luck));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String in = null;
+        String out = null;
+        String summary = null;
+        Format format = Format.CSV;
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--in": in = args[i + 1]; break;
+                case "--out": out = args[i + 1]; break;
+                case "--format": format = Format.valueOf(args[i + 1].toUpperCase(Locale.ROOT)); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                case "--summary": summary = args[i + 1]; break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (in == null) throw new IllegalArgumentException("--in FILE (or - for stdin) is required");
+
+        ReplayAnalyzer analyzer = new ReplayAnalyzer(threads);
+        ReplayReport report;
+        try (SaveStateReader reader = in.equals("-")
+                ? new SaveStateReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : SaveStateReader.open(Paths.get(in));
+             Writer writer = out == null ? null : Files.newBufferedWriter(Paths.get(out), StandardCharsets.UTF_8)) {
+            report = analyzer.run(reader, writer, format);
+        }
+        if (summary != null) {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(summary), StandardCharsets.UTF_8)) {
+                writer.write(report.toJson().toString());
+            }
+        }
+        System.out.println(report);
+        System.out.printf("best-guess cache: hits=%d misses=%d%n",
+                analyzer.bestGuesses.getHits(), analyzer.bestGuesses.getMisses());
+    }
+}
@@ -0,0 +1,158 @@
+package sim;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import model.WordCodec;
+import model.WordleModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+// ReplayReport.java
+// Thread-safe aggregate of a replay analysis: outcomes, guess-count distribution, and per
+// turn the average candidates left, skill (expected information of the guess played over
+// the best guess's) and luck (information actually received minus expected). Memory is
+// fixed: counters per turn plus one counter per distinct opener word.
+
+public class ReplayReport {
+    private static final int TURNS = WordleModel.MAX_GUESS_LIMIT;
+
+    private final LongAdder games = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder won = new LongAdder();
+    private final LongAdder lost = new LongAdder();
+    private final AtomicLongArray solvedIn = new AtomicLongArray(TURNS + 1);
+    private final AtomicLongArray turns = new AtomicLongArray(TURNS);
+    private final AtomicLongArray optimal = new AtomicLongArray(TURNS); // turns with skill ~1
+    private final DoubleAdder[] remaining = adders();
+    private final DoubleAdder[] skill = adders();
+    private final DoubleAdder[] luck = adders();
+    private final Map<Long, LongAdder> openers = new ConcurrentHashMap<>();
+    private long elapsedNanos;
+
+    private static DoubleAdder[] adders() {
+        DoubleAdder[] a = new DoubleAdder[TURNS];
+        for (int i = 0; i < TURNS; i++) a[i] = new DoubleAdder();
+        return a;
+    }
+
+    /** Records one analysed guess (turn is 0-based; remaining is the count before the guess). */
+    void turn(int turn, int remainingBefore, double turnSkill, double turnLuck) {
+        int t = Math.min(turn, TURNS - 1);
+        turns.incrementAndGet(t);
+        remaining[t].add(remainingBefore);
+        skill[t].add(turnSkill);
+        luck[t].add(turnLuck);
+        if (turnSkill >= 0.999) optimal.incrementAndGet(t);
+    }
+
+    /** Records one analysed game: its opener, and guesses used when won (0 otherwise). */
+    void game(long opener, boolean isWon, boolean isLost, int guesses) {
+        games.increment();
+        if (isWon) {
+            won.increment();
+            solvedIn.incrementAndGet(Math.min(guesses, TURNS));
+        } else if (isLost) {
+            lost.increment();
+        }
+        if (guesses > 0) openers.computeIfAbsent(opener, k -> new LongAdder()).increment();
+    }
+
+    void skip() {
+        skipped.increment();
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() { return games.sum(); }
+    public long getSkipped() { return skipped.sum(); }
+    public long getWins() { return won.sum(); }
+    public long getLosses() { return lost.sum(); }
+    /** Games saved before they were finished. */
+    public long getUnfinished() { return getGames() - getWins() - getLosses(); }
+    public long getSolvedIn(int guesses) { return solvedIn.get(guesses); }
+    public long getTurns(int turn) { return turns.get(turn); }
+    public double getGamesPerSecond() { return elapsedNanos == 0 ? 0 : getGames() * 1e9 / elapsedNanos; }
+
+    public double getAverageSkill(int turn) { return average(skill[turn], turn); }
+    public double getAverageLuck(int turn) { return average(luck[turn], turn); }
+    public double getAverageRemaining(int turn) { return average(remaining[turn], turn); }
+
+    public double getAverageSkill() {
+        double sum = 0;
+        long n = 0;
+        for (int t = 0; t < TURNS; t++) {
+            sum += skill[t].sum();
+            n += turns.get(t);
+        }
+        return n == 0 ? 0 : sum / n;
+    }
+
+    private double average(DoubleAdder sum, int turn) {
+        long n = turns.get(turn);
+        return n == 0 ? 0 : sum.sum() / n;
+    }
+
+    /** The most played first guesses, most popular first. */
+    public List<Map.Entry<String, Long>> topOpeners(int limit) {
+        List<Map.Entry<String, Long>> all = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> e : openers.entrySet()) {
+            all.add(Map.entry(WordCodec.decode(e.getKey()), e.getValue().sum()));
+        }
+        all.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        return all.subList(0, Math.min(limit, all.size()));
+    }
+
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("games", getGames());
+        json.addProperty("skipped", getSkipped());
+        json.addProperty("won", getWins());
+        json.addProperty("lost", getLosses());
+        json.addProperty("unfinished", getUnfinished());
+        json.addProperty("averageSkill", getAverageSkill());
+        JsonArray distribution = new JsonArray();
+        for (int i = 1; i <= TURNS; i++) distribution.add(solvedIn.get(i));
+        json.add("solvedIn", distribution);
+        JsonArray byTurn = new JsonArray();
+        for (int t = 0; t < TURNS && turns.get(t) > 0; t++) {
+            JsonObject row = new JsonObject();
+            row.addProperty("turn", t + 1);
+            row.addProperty("guesses", turns.get(t));
+            row.addProperty("remaining", getAverageRemaining(t));
+            row.addProperty("skill", getAverageSkill(t));
+            row.addProperty("luck", getAverageLuck(t));
+            row.addProperty("optimal", optimal.get(t));
+            byTurn.add(row);
+        }
+        json.add("turns", byTurn);
+        JsonObject top = new JsonObject();
+        for (Map.Entry<String, Long> e : topOpeners(10)) top.addProperty(e.getKey(), e.getValue());
+        json.add("openers", top);
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("games=%d skipped=%d time=%.2fs throughput=%.1f games/s%n",
+                getGames(), getSkipped(), elapsedNanos / 1e9, getGamesPerSecond()));
+        sb.append(String.format("won=%d lost=%d unfinished=%d avg skill=%.3f%n",
+                getWins(), getLosses(), getUnfinished(), getAverageSkill()));
+        for (int t = 0; t < TURNS && turns.get(t) > 0; t++) {
+            sb.append(String.format("  turn %d: guesses=%d remaining=%.1f skill=%.3f luck=%+.3f optimal=%.1f%%%n",
+                    t + 1, turns.get(t), getAverageRemaining(t), getAverageSkill(t), getAverageLuck(t),
+                    100.0 * optimal.get(t) / turns.get(t)));
+        }
+        sb.append("  top openers:");
+        for (Map.Entry<String, Long> e : topOpeners(5)) sb.append(' ').append(e.getKey()).append('=').append(e.getValue());
+        return sb.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package sim;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// SimulationReport.java
+// Thread-safe tally of simulated games: guess-count distribution (index 1..6 = solved in
+// that many guesses, index 0 = lost), plus wall-clock time for throughput.
+
+public class SimulationReport {
+    private final String strategy;
+    private final AtomicLongArray distribution = new AtomicLongArray(7);
+    private long elapsedNanos;
+
+    public SimulationReport(String strategy) {
+        this.strategy = strategy;
+    }
+
+    /** Records one game: guesses used when won, or 0 when lost. */
+    public void record(int guessesToWin) {
+        distribution.incrementAndGet(guessesToWin);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        long n = 0;
+        for (int i = 0; i < distribution.length(); i++) n += distribution.get(i);
+        return n;
+    }
+    public long getWins() { return getGames() - distribution.get(0); }
+    public long getCount(int guesses) { return distribution.get(guesses); }
+    public double getWinRate() { return getGames() == 0 ? 0 : (double) getWins() / getGames(); }
+    public double getGamesPerSecond() { return elapsedNanos == 0 ? 0 : getGames() * 1e9 / elapsedNanos; }
+
+    public double getAverageGuesses() {
+        long total = 0;
+        for (int i = 1; i <= 6; i++) total += i * distribution.get(i);
+        return getWins() == 0 ? 0 : (double) total / getWins();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("strategy=%s games=%d time=%.2fs throughput=%.1f games/s%n",
+                strategy, getGames(), elapsedNanos / 1e9, getGamesPerSecond()));
+        sb.append(String.format("win rate=%.2f%% avg guesses (wins)=%.3f%n", getWinRate() * 100, getAverageGuesses()));
+        for (int i = 1; i <= 6; i++) sb.append(String.format("  %d: %d%n", i, distribution.get(i)));
+        sb.append(String.format("  X: %d", distribution.get(0)));
+        return sb.toString();
+    }
+}
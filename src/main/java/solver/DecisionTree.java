@@ -0,0 +1,197 @@
+package solver;
+
+import model.Guess;
+import model.WordDictionary;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * DecisionTree
+ * ------------
+ * A complete precomputed guessing strategy over one dictionary: the root is the opening
+ * word and every node has one child per feedback pattern its guess can produce. The tree
+ * is flattened into parallel arrays (children of a node are a sorted slice of the
+ * pattern/child arrays), so next() walks the guess history in O(depth) lookups with no
+ * scoring, and the binary form (built offline by DecisionTreeBuilder) is a few bytes per
+ * node. The header carries the dictionary fingerprint; a tree built from another word
+ * list is rejected when loaded.
+ *
+ *   int magic "WDTR", int version, int word length, int dictionary size,
+ *   long fingerprint, int node count, int edge count,
+ *   per node:  short guess, short remaining, float bits, int first edge
+ *   per edge:  short pattern, int child
+ */
+public final class DecisionTree {
+    public static final String DEFAULT_RESOURCE = "/decision_tree.bin";
+
+    private static final int MAGIC = 0x57445452; // "WDTR"
+    private static final int VERSION = 1;
+
+    private final WordDictionary dictionary;
+    private final short[] guess; // dictionary index per node
+    private final short[] remaining; // secrets still possible at the node
+    private final float[] bits; // expected information of the node's guess
+    private final int[] firstEdge; // node i's edges are [firstEdge[i], firstEdge[i + 1])
+    private final short[] edgePattern;
+    private final int[] edgeChild;
+
+    DecisionTree(WordDictionary dictionary, short[] guess, short[] remaining, float[] bits, int[] firstEdge,
+                 short[] edgePattern, int[] edgeChild) {
+        this.dictionary = dictionary;
+        this.guess = guess;
+        this.remaining = remaining;
+        this.bits = bits;
+        this.firstEdge = firstEdge;
+        this.edgePattern = edgePattern;
+        this.edgeChild = edgeChild;
+    }
+
+    private static class Holder {
+        static final DecisionTree DEFAULT = loadDefault();
+    }
+
+    /**
+     * The tree shipped with the app for the bundled 5-letter dictionary, or null when the
+     * resource is missing or was built from a different word list.
+     */
+    public static DecisionTree getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    private static DecisionTree loadDefault() {
+        try (InputStream in = DecisionTree.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (in == null) return null;
+            return read(in, WordDictionary.getDefault());
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("⚠️ Decision tree unavailable (" + e.getMessage() + "), hints will be computed");
+            return null;
+        }
+    }
+
+    /**
+     * The tree's next guess after the first count guesses, or null when the history left
+     * the tree (a guess the tree would not have played) or the game is already solved.
+     */
+    public Hint next(Guess[] guesses, int count) {
+        int node = 0;
+        for (int i = 0; i < count; i++) {
+            if (dictionary.packedAt(guess[node]) != guesses[i].getPacked()) return null;
+            node = child(node, guesses[i].getPattern());
+            if (node < 0) return null;
+        }
+        return new Hint(dictionary.wordAt(guess[node]), bits[node], remaining[node]);
+    }
+
+    /** Child of node for a feedback pattern, or -1 (solved, or a pattern no secret gives). */
+    public int child(int node, int pattern) {
+        int lo = firstEdge[node], hi = firstEdge[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int p = edgePattern[mid];
+            if (p < pattern) lo = mid + 1;
+            else if (p > pattern) hi = mid - 1;
+            else return edgeChild[mid];
+        }
+        return -1;
+    }
+
+    public String guessAt(int node) {
+        return dictionary.wordAt(guess[node]);
+    }
+
+    public int nodeCount() {
+        return guess.length;
+    }
+
+    /** Average number of guesses to solve, over every secret in the dictionary. */
+    public double averageGuesses() {
+        long total = 0;
+        int[] depth = new int[guess.length];
+        depth[0] = 1;
+        for (int n = 0; n < guess.length; n++) {
+            int children = 0;
+            for (int e = firstEdge[n]; e < firstEdge[n + 1]; e++) {
+                depth[edgeChild[e]] = depth[n] + 1;
+                children += remaining[edgeChild[e]];
+            }
+            total += (long) depth[n] * (remaining[n] - children); // secrets solved by this node's guess
+        }
+        return (double) total / remaining[0];
+    }
+
+    /** Most guesses any secret needs. */
+    public int maxGuesses() {
+        int[] depth = new int[guess.length];
+        depth[0] = 1;
+        int max = 1;
+        for (int n = 0; n < guess.length; n++) {
+            for (int e = firstEdge[n]; e < firstEdge[n + 1]; e++) depth[edgeChild[e]] = depth[n] + 1;
+            max = Math.max(max, depth[n]);
+        }
+        return max;
+    }
+
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(dictionary.getWordLength());
+        data.writeInt(dictionary.size());
+        data.writeLong(dictionary.fingerprint());
+        data.writeInt(guess.length);
+        data.writeInt(edgePattern.length);
+        for (int n = 0; n < guess.length; n++) {
+            data.writeShort(guess[n]);
+            data.writeShort(remaining[n]);
+            data.writeFloat(bits[n]);
+            data.writeInt(firstEdge[n]);
+        }
+        for (int e = 0; e < edgePattern.length; e++) {
+            data.writeShort(edgePattern[e]);
+            data.writeInt(edgeChild[e]);
+        }
+        data.flush();
+    }
+
+    /** Reads a tree; throws IllegalStateException if it was built for a different dictionary. */
+    public static DecisionTree read(InputStream in, WordDictionary dictionary) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+            throw new IllegalStateException("Not a decision tree file");
+        }
+        if (data.readInt() != dictionary.getWordLength() || data.readInt() != dictionary.size()
+                || data.readLong() != dictionary.fingerprint()) {
+            throw new IllegalStateException("Decision tree was built for a different dictionary");
+        }
+        int nodes = data.readInt();
+        int edges = data.readInt();
+        short[] guess = new short[nodes];
+        short[] remaining = new short[nodes];
+        float[] bits = new float[nodes];
+        int[] firstEdge = new int[nodes + 1];
+        for (int n = 0; n < nodes; n++) {
+            guess[n] = data.readShort();
+            remaining[n] = data.readShort();
+            bits[n] = data.readFloat();
+            firstEdge[n] = data.readInt();
+        }
+        firstEdge[nodes] = edges;
+        short[] edgePattern = new short[edges];
+        int[] edgeChild = new int[edges];
+        for (int e = 0; e < edges; e++) {
+            edgePattern[e] = data.readShort();
+            edgeChild[e] = data.readInt();
+        }
+        return new DecisionTree(dictionary, guess, remaining, bits, firstEdge, edgePattern, edgeChild);
+    }
+}
@@ -0,0 +1,272 @@
+package solver;
+
+import model.PatternTable;
+import model.WordDictionary;
+import model.WordScorer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * DecisionTreeBuilder
+ * -------------------
+ * Offline tool that computes a full DecisionTree over a PatternTable. At every node the
+ * remaining secrets are split by the feedback of a guess and each part is solved
+ * recursively; the guess is chosen to minimise the total number of guesses over the
+ * node's secrets. Trying every word everywhere is far too expensive, so the top
+ * {@code breadth} words by entropy are tried in full at the first {@code lookahead}
+ * levels and the best-entropy word is used below that. Wherever that would need more
+ * than {@code maxGuesses} guesses for some secret, the wider search is tried there too,
+ * so the tree fits the game's guess limit whenever the beam can find such a tree.
+ *
+ * Subtrees are memoised by their exact candidate subset (different guess orders reach
+ * the same subsets often), and sibling subtrees are solved in parallel as fork-join tasks.
+ *
+ * Usage: java -cp target/classes solver.DecisionTreeBuilder [--out FILE] [--breadth K] [--lookahead D] [--max-guesses N]
+ */
+public class DecisionTreeBuilder {
+    private static final int PARALLEL_THRESHOLD = 64; // smaller subsets are solved on the current thread
+    private static final int MEMO_THRESHOLD = 3;
+
+    private final PatternTable table;
+    private final EntropySolver solver;
+    private final int breadth;
+    private final int lookahead;
+    private final int maxGuesses;
+    private final int allCorrect;
+    private final ConcurrentHashMap<Subset, Node> memo = new ConcurrentHashMap<>();
+
+    public DecisionTreeBuilder(PatternTable table, int breadth, int lookahead, int maxGuesses) {
+        if (table.getGuesses() != table.getSecrets()) {
+            throw new IllegalArgumentException("Decision trees need the same guess and secret list");
+        }
+        if (table.getSecrets().size() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Dictionary too large for a decision tree: " + table.getSecrets().size());
+        }
+        this.table = table;
+        this.solver = new EntropySolver(table, null); // parallelism comes from the subtree tasks
+        this.breadth = Math.max(1, breadth);
+        this.lookahead = lookahead;
+        this.maxGuesses = maxGuesses;
+        this.allCorrect = WordScorer.allCorrect(table.getSecrets().getWordLength());
+    }
+
+    /** Builds the tree over every secret, using the given pool for the subtree tasks. */
+    public DecisionTree build(ForkJoinPool pool) {
+        int[] all = new int[table.getSecrets().size()];
+        for (int i = 0; i < all.length; i++) all[i] = i;
+        Node root = pool.invoke(new Solve(all, 0));
+        return flatten(root);
+    }
+
+    // a subtree: guess at this node, and one child per pattern other than all-correct
+    private static final class Node {
+        final int guess;
+        final float bits;
+        final int remaining;
+        final long cost; // total guesses over the node's secrets, this one included
+        final int height; // most guesses any of them needs from here
+        final int[] patterns;
+        final Node[] children;
+
+        Node(int guess, float bits, int remaining, long cost, int height, int[] patterns, Node[] children) {
+            this.guess = guess;
+            this.bits = bits;
+            this.remaining = remaining;
+            this.cost = cost;
+            this.height = height;
+            this.patterns = patterns;
+            this.children = children;
+        }
+    }
+
+    // candidate subsets as memo keys (indices are kept sorted)
+    private static final class Subset {
+        final int[] indices;
+        final int hash;
+
+        Subset(int[] indices) {
+            this.indices = indices;
+            this.hash = Arrays.hashCode(indices);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Subset && Arrays.equals(indices, ((Subset) o).indices);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final class Solve extends RecursiveTask<Node> {
+        private final int[] candidates;
+        private final int depth;
+
+        Solve(int[] candidates, int depth) {
+            this.candidates = candidates;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Node compute() {
+            return solve(candidates, depth);
+        }
+    }
+
+    private Node solve(int[] candidates, int depth) {
+        int n = candidates.length;
+        if (n == 1) return new Node(candidates[0], 0f, 1, 1, 1, new int[0], new Node[0]);
+
+        Subset key = n >= MEMO_THRESHOLD ? new Subset(candidates) : null;
+        if (key != null) {
+            Node known = memo.get(key);
+            if (known != null) return known;
+        }
+
+        int width = depth < lookahead ? breadth : 1;
+        Node best = best(solver.rank(candidates, width), 0, candidates, depth);
+        if (depth + best.height > maxGuesses && width < breadth) {
+            best = better(best, best(solver.rank(candidates, breadth), width, candidates, depth), depth);
+        }
+        if (key != null) memo.putIfAbsent(key, best);
+        return best;
+    }
+
+    private Node best(List<Hint> options, int from, int[] candidates, int depth) {
+        WordDictionary words = table.getGuesses();
+        Node best = null;
+        for (int i = from; i < options.size(); i++) {
+            Hint option = options.get(i);
+            Node node = evaluate(words.indexOf(option.getWord()), (float) option.getBits(), candidates, depth);
+            best = best == null ? node : better(best, node, depth);
+        }
+        return best;
+    }
+
+    // within the guess limit first, then fewest total guesses
+    private Node better(Node a, Node b, int depth) {
+        if (b == null) return a;
+        boolean aFits = depth + a.height <= maxGuesses, bFits = depth + b.height <= maxGuesses;
+        if (aFits != bFits) return aFits ? a : b;
+        if (!aFits && a.height != b.height) return a.height < b.height ? a : b;
+        return b.cost < a.cost ? b : a;
+    }
+
+    // splits the candidates by the guess's feedback and solves each part
+    private Node evaluate(int guess, float bits, int[] candidates, int depth) {
+        int[] counts = new int[allCorrect + 1];
+        for (int s : candidates) counts[table.pattern(guess, s)]++;
+        int parts = 0;
+        for (int p = 0; p < allCorrect; p++) if (counts[p] > 0) parts++;
+
+        int[] patterns = new int[parts];
+        int[][] subsets = new int[parts][];
+        int[] slot = new int[allCorrect + 1];
+        int k = 0;
+        for (int p = 0; p < allCorrect; p++) {
+            if (counts[p] == 0) continue;
+            patterns[k] = p;
+            subsets[k] = new int[counts[p]];
+            slot[p] = k++;
+        }
+        int[] fill = new int[parts];
+        for (int s : candidates) { // candidates are sorted, so every subset is too
+            int p = table.pattern(guess, s);
+            if (p != allCorrect) subsets[slot[p]][fill[slot[p]]++] = s;
+        }
+
+        Node[] children = new Node[parts];
+        if (candidates.length >= PARALLEL_THRESHOLD) {
+            List<Solve> tasks = new ArrayList<>();
+            for (int[] subset : subsets) tasks.add(new Solve(subset, depth + 1));
+            Solve.invokeAll(tasks);
+            for (int i = 0; i < parts; i++) children[i] = tasks.get(i).join();
+        } else {
+            for (int i = 0; i < parts; i++) children[i] = solve(subsets[i], depth + 1);
+        }
+
+        long cost = candidates.length;
+        int height = 1;
+        for (Node child : children) {
+            cost += child.cost;
+            height = Math.max(height, child.height + 1);
+        }
+        return new Node(guess, bits, candidates.length, cost, height, patterns, children);
+    }
+
+    // breadth-first, so every node's children are contiguous and come after it
+    private DecisionTree flatten(Node root) {
+        List<Node> order = new ArrayList<>();
+        int edges = 0;
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            order.add(node);
+            edges += node.children.length;
+            queue.addAll(Arrays.asList(node.children));
+        }
+
+        int nodes = order.size();
+        short[] guess = new short[nodes];
+        short[] remaining = new short[nodes];
+        float[] bits = new float[nodes];
+        int[] firstEdge = new int[nodes + 1];
+        short[] edgePattern = new short[edges];
+        int[] edgeChild = new int[edges];
+        int e = 0;
+        int nextChild = 1;
+        for (int i = 0; i < nodes; i++) {
+            Node node = order.get(i);
+            guess[i] = (short) node.guess;
+            remaining[i] = (short) node.remaining;
+            bits[i] = node.bits;
+            firstEdge[i] = e;
+            for (int c = 0; c < node.children.length; c++) {
+                edgePattern[e] = (short) node.patterns[c];
+                edgeChild[e++] = nextChild++;
+            }
+        }
+        firstEdge[nodes] = e;
+        return new DecisionTree(table.getSecrets(), guess, remaining, bits, firstEdge, edgePattern, edgeChild);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path out = Paths.get("src/main/resources" + DecisionTree.DEFAULT_RESOURCE);
+        int breadth = 8;
+        int lookahead = 2;
+        int maxGuesses = 6;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--out": out = Paths.get(args[i + 1]); break;
+                case "--breadth": breadth = Integer.parseInt(args[i + 1]); break;
+                case "--lookahead": lookahead = Integer.parseInt(args[i + 1]); break;
+                case "--max-guesses": maxGuesses = Integer.parseInt(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        long start = System.nanoTime();
+        DecisionTree tree = new DecisionTreeBuilder(PatternTable.getDefault(), breadth, lookahead, maxGuesses)
+                .build(ForkJoinPool.commonPool());
+        try (OutputStream os = Files.newOutputStream(out)) {
+            tree.write(os);
+        }
+        System.out.printf("opener=%s nodes=%d avg guesses=%.4f max=%d time=%.1fs -> %s (%d bytes)%n",
+                tree.guessAt(0), tree.nodeCount(), tree.averageGuesses(), tree.maxGuesses(),
+                (System.nanoTime() - start) / 1e9, out, Files.size(out));
+    }
+}
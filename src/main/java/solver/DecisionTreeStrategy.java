@@ -0,0 +1,34 @@
+package solver;
+
+import model.WordleModel;
+
+// DecisionTreeStrategy.java
+// Plays the precomputed DecisionTree: each turn is a walk from the root along the
+// feedback so far, with no scoring. Games the tree does not cover (other word lengths
+// or dictionaries, or no tree bundled) fall back to EntropyStrategy.
+
+public class DecisionTreeStrategy implements Strategy {
+    private final DecisionTree tree;
+    private final EntropyStrategy fallback = new EntropyStrategy();
+
+    public DecisionTreeStrategy() {
+        this(DecisionTree.getDefault());
+    }
+
+    /** tree may be null to always use the fallback. */
+    public DecisionTreeStrategy(DecisionTree tree) {
+        this.tree = tree;
+    }
+
+    @Override
+    public String nextGuess(WordleModel model) {
+        if (tree != null && model.getCandidates().getDictionary() == tree.getDictionary()) {
+            Hint hint = tree.next(model.getGuesses(), model.getGuessCount());
+            if (hint != null) return hint.getWord();
+        }
+        return fallback.nextGuess(model);
+    }
+
+    @Override
+    public String getName() { return "tree"; }
+}
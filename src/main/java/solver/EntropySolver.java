@@ -0,0 +1,268 @@
+package solver;
+
+import model.CandidateSet;
+import model.Guess;
+import model.HardModeConstraints;
+import model.PatternTable;
+import model.WordCodec;
+import model.WordDictionary;
+import model.WordScorer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+/**
+ * EntropySolver
+ * -------------
+ * Suggests next guesses by expected information. Given the guesses made so far it keeps
+ * only the secrets that would have produced the same feedback, then, for every word in the
+ * guess list, buckets those candidates by feedback pattern and computes the entropy of the
+ * bucket sizes. The G x C evaluation reads patterns from the PatternTable and is split
+ * across a ForkJoinPool, so callers should run it off the Swing event thread.
+ * When the secret dictionary has a frequency column, each candidate counts with its
+ * frequency instead of 1, so splitting common words apart is worth more than splitting
+ * obscure ones, and of two last candidates the more common one is guessed first.
+ */
+public class EntropySolver {
+    private final PatternTable table;
+    private final ForkJoinPool pool;
+    private final double[] xlogx; // n * ln(n) for every possible bucket size
+    private final ThreadLocal<int[]> buckets; // per-thread scratch, left zeroed after each use
+    private final float[] weights; // secret frequencies, or null for equally likely secrets
+    private final ThreadLocal<double[]> masses; // weighted bucket scratch, left zeroed too
+    private volatile Hint opener; // first move never changes for a given table
+
+    private static final AtomicReferenceArray<EntropySolver> BY_LENGTH =
+            new AtomicReferenceArray<>(PatternTable.MAX_WORD_LENGTH + 1);
+
+    public EntropySolver(PatternTable table) {
+        this(table, ForkJoinPool.commonPool());
+    }
+
+    /** pool may be null to evaluate on the calling thread (e.g. when games already run in parallel). */
+    public EntropySolver(PatternTable table, ForkJoinPool pool) {
+        this.table = table;
+        this.pool = pool;
+        this.xlogx = new double[table.getSecrets().size() + 1];
+        for (int n = 2; n < xlogx.length; n++) xlogx[n] = n * Math.log(n);
+        int patterns = WordScorer.patternCount(table.getGuesses().getWordLength());
+        this.buckets = ThreadLocal.withInitial(() -> new int[patterns]);
+        WordDictionary secrets = table.getSecrets();
+        if (secrets.hasFrequencies()) {
+            this.weights = new float[secrets.size()];
+            for (int s = 0; s < weights.length; s++) weights[s] = secrets.frequency(s);
+            this.masses = ThreadLocal.withInitial(() -> new double[patterns]);
+        } else {
+            this.weights = null;
+            this.masses = null;
+        }
+    }
+
+    /** Solver over the bundled dictionary's pattern table (built or mapped on first use). */
+    public static EntropySolver getDefault() {
+        return forLength(WordDictionary.DEFAULT_LENGTH);
+    }
+
+    /** Solver for games of the given word length; throws UnsupportedOperationException above 5 letters. */
+    public static EntropySolver forLength(int wordLength) {
+        if (wordLength < 0 || wordLength > PatternTable.MAX_WORD_LENGTH) {
+            throw new UnsupportedOperationException("Hints are only available for words of at most "
+                    + PatternTable.MAX_WORD_LENGTH + " letters");
+        }
+        EntropySolver solver = BY_LENGTH.get(wordLength);
+        if (solver == null) {
+            BY_LENGTH.compareAndSet(wordLength, null, new EntropySolver(PatternTable.forLength(wordLength)));
+            solver = BY_LENGTH.get(wordLength);
+        }
+        return solver;
+    }
+
+    /** Best next guess for the first count entries of guesses, or null if no secret fits. */
+    public Hint suggest(Guess[] guesses, int count) {
+        if (count == 0 && opener != null) return opener;
+        List<Hint> ranked = rank(candidates(guesses, count), 1);
+        Hint best = ranked.isEmpty() ? null : ranked.get(0);
+        if (count == 0) opener = best;
+        return best;
+    }
+
+    /** Best next guess for a set of remaining secrets over the table's secret dictionary. */
+    public Hint suggest(CandidateSet remaining) {
+        if (remaining.getDictionary() != table.getSecrets()) {
+            throw new IllegalArgumentException("Candidate set is over a different dictionary");
+        }
+        boolean first = remaining.isFull();
+        if (first && opener != null) return opener;
+        List<Hint> ranked = rank(remaining.toIndices(), 1);
+        Hint best = ranked.isEmpty() ? null : ranked.get(0);
+        if (first) opener = best;
+        return best;
+    }
+
+    /**
+     * Best next guess in hard mode: only guesses the constraints allow are considered (the
+     * allowed set is one bitmask pass over the guess list). Null rules mean normal mode.
+     */
+    public Hint suggest(CandidateSet remaining, HardModeConstraints rules) {
+        if (rules == null || rules.isEmpty()) return suggest(remaining);
+        if (remaining.getDictionary() != table.getSecrets()) {
+            throw new IllegalArgumentException("Candidate set is over a different dictionary");
+        }
+        List<Hint> ranked = rank(remaining.toIndices(), 1, rules.hardModeMask(table.getGuesses()));
+        return ranked.isEmpty() ? null : ranked.get(0);
+    }
+
+    /** Indices (into the table's secret dictionary) of secrets consistent with every guess. */
+    public int[] candidates(Guess[] guesses, int count) {
+        WordDictionary secrets = table.getSecrets();
+        WordDictionary words = table.getGuesses();
+        int[] guessIndex = new int[count];
+        for (int i = 0; i < count; i++) guessIndex[i] = words.indexOf(guesses[i].getPacked());
+
+        int[] result = new int[secrets.size()];
+        int n = 0;
+        for (int s = 0; s < secrets.size(); s++) {
+            boolean fits = true;
+            for (int i = 0; i < count && fits; i++) {
+                fits = patternOf(guesses[i], guessIndex[i], s) == guesses[i].getPattern();
+            }
+            if (fits) result[n++] = s;
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /** Top limit guesses for the given candidate secrets, best first. */
+    public List<Hint> rank(int[] candidates, int limit) {
+        return rank(candidates, limit, null);
+    }
+
+    /** Same, restricted to the guesses set in allowedGuesses (a bitset over the guess list; null = all). */
+    public List<Hint> rank(int[] candidates, int limit, long[] allowedGuesses) {
+        List<Hint> hints = new ArrayList<>();
+        if (candidates.length == 0) return hints;
+        WordDictionary words = table.getGuesses();
+        WordDictionary secrets = table.getSecrets();
+
+        // one or two words left: just guess a candidate, the more common one first; either one
+        // tells the two apart, so both are worth the (weighted) entropy of the pair
+        if (candidates.length <= 2) {
+            boolean swap = candidates.length == 2 && weights != null && weights[candidates[1]] > weights[candidates[0]];
+            for (int i = 0; i < Math.min(limit, candidates.length); i++) {
+                long word = secrets.packedAt(candidates[swap ? 1 - i : i]);
+                hints.add(new Hint(WordCodec.decode(word), bits(word, candidates), candidates.length));
+            }
+            return hints;
+        }
+
+        double total = 0;
+        if (weights != null) for (int s : candidates) total += weights[s];
+        double mass = total;
+        double[] bits = new double[words.size()];
+        if (pool == null) {
+            for (int g = 0; g < bits.length; g++) bits[g] = allowed(allowedGuesses, g) ? entropy(g, candidates, mass) : -1;
+        } else try {
+            pool.submit(() -> IntStream.range(0, words.size()).parallel()
+                    .forEach(g -> bits[g] = allowed(allowedGuesses, g) ? entropy(g, candidates, mass) : -1)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return hints;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Hint computation failed", e.getCause());
+        }
+
+        // ties go to words that could still be the answer
+        boolean[] isCandidate = new boolean[words.size()];
+        for (int s : candidates) {
+            int g = words.indexOf(secrets.packedAt(s));
+            if (g >= 0) isCandidate[g] = true;
+        }
+        if (limit == 1) { // a single pass instead of sorting every guess
+            int best = 0;
+            for (int g = 1; g < bits.length; g++) {
+                if (bits[g] > bits[best] || (bits[g] == bits[best] && isCandidate[g] && !isCandidate[best])) best = g;
+            }
+            if (bits[best] >= 0) hints.add(new Hint(words.wordAt(best), bits[best], candidates.length));
+            return hints;
+        }
+        Integer[] order = new Integer[words.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> bits[a] != bits[b] ? Double.compare(bits[b], bits[a])
+                : Boolean.compare(isCandidate[b], isCandidate[a]));
+
+        for (int i = 0; i < Math.min(limit, order.length) && bits[order[i]] >= 0; i++) {
+            hints.add(new Hint(words.wordAt(order[i]), bits[order[i]], candidates.length));
+        }
+        return hints;
+    }
+
+    /**
+     * Expected information (bits) of one guess over the given candidate secrets, on the same
+     * scale rank() uses; guesses outside the guess list are scored directly.
+     */
+    public double bits(long guess, int[] candidates) {
+        if (candidates.length <= 1) return 0;
+        double total = candidates.length;
+        if (weights != null) {
+            total = 0;
+            for (int s : candidates) total += weights[s];
+        }
+        int g = table.getGuesses().indexOf(guess);
+        if (g >= 0) return entropy(g, candidates, total);
+
+        WordDictionary secrets = table.getSecrets();
+        int length = secrets.getWordLength();
+        double[] mass = new double[WordScorer.patternCount(length)];
+        for (int s : candidates) mass[WordScorer.score(guess, secrets.packedAt(s), length)] += weights == null ? 1 : weights[s];
+        double sum = 0;
+        for (double m : mass) if (m > 0) sum += m * Math.log(m);
+        return (Math.log(total) - sum / total) / Math.log(2);
+    }
+
+    private static boolean allowed(long[] mask, int g) {
+        return mask == null || (mask[g >>> 6] & (1L << g)) != 0;
+    }
+
+    // Shannon entropy of the feedback-pattern distribution for guess g over the candidates
+    // (walks the candidates twice instead of all 243 buckets, and clears them on the way out)
+    private double entropy(int g, int[] candidates, double total) {
+        if (weights != null) return weightedEntropy(g, candidates, total);
+        int[] counts = buckets.get();
+        for (int s : candidates) counts[table.pattern(g, s)]++;
+        double sum = 0;
+        for (int s : candidates) {
+            int p = table.pattern(g, s);
+            sum += xlogx[counts[p]];
+            counts[p] = 0;
+        }
+        int n = candidates.length;
+        return (Math.log(n) - sum / n) / Math.log(2);
+    }
+
+    // same, with each candidate counting as its frequency out of total
+    private double weightedEntropy(int g, int[] candidates, double total) {
+        double[] mass = masses.get();
+        for (int s : candidates) mass[table.pattern(g, s)] += weights[s];
+        double sum = 0;
+        for (int s : candidates) {
+            int p = table.pattern(g, s);
+            double m = mass[p];
+            if (m != 0) {
+                sum += m * Math.log(m);
+                mass[p] = 0;
+            }
+        }
+        return (Math.log(total) - sum / total) / Math.log(2);
+    }
+
+    // guesses outside the dictionary are scored directly instead of read from the table
+    private int patternOf(Guess guess, int guessIndex, int secretIndex) {
+        if (guessIndex >= 0) return table.pattern(guessIndex, secretIndex);
+        long secret = table.getSecrets().packedAt(secretIndex);
+        return WordScorer.score(guess.getPacked(), secret, WordCodec.length(secret));
+    }
+}
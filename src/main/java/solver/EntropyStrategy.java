@@ -0,0 +1,40 @@
+package solver;
+
+import model.PatternTable;
+import model.WordleModel;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// EntropyStrategy.java
+// Plays the solver's top-ranked word each turn. Evaluation runs on the calling thread
+// because simulations already spread whole games across cores.
+
+public class EntropyStrategy implements Strategy {
+    private final AtomicReferenceArray<EntropySolver> solvers =
+            new AtomicReferenceArray<>(PatternTable.MAX_WORD_LENGTH + 1); // per word length, built on first use
+
+    @Override
+    public String nextGuess(WordleModel model) {
+        Hint hint = solverFor(model.getWordLength()).suggest(model.getCandidates());
+        if (hint == null) {
+            throw new IllegalStateException("No candidate words left for secret " + model.getSecretWord());
+        }
+        return hint.getWord();
+    }
+
+    @Override
+    public String getName() { return "entropy"; }
+
+    private EntropySolver solverFor(int wordLength) {
+        if (wordLength > PatternTable.MAX_WORD_LENGTH) {
+            throw new UnsupportedOperationException("The entropy strategy needs words of at most "
+                    + PatternTable.MAX_WORD_LENGTH + " letters");
+        }
+        EntropySolver solver = solvers.get(wordLength);
+        if (solver == null) {
+            solvers.compareAndSet(wordLength, null, new EntropySolver(PatternTable.forLength(wordLength), null));
+            solver = solvers.get(wordLength);
+        }
+        return solver;
+    }
+}
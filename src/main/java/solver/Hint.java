@@ -0,0 +1,26 @@
+package solver;
+
+// Hint.java
+// Immutable suggestion returned by the solver: the word to try next, how much information
+// (in bits) it is expected to reveal, and how many secrets were still possible.
+
+public class Hint {
+    private final String word;
+    private final double bits;
+    private final int remaining;
+
+    public Hint(String word, double bits, int remaining) {
+        this.word = word;
+        this.bits = bits;
+        this.remaining = remaining;
+    }
+
+    public String getWord() { return word; }
+    public double getBits() { return bits; }
+    public int getRemaining() { return remaining; }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%.2f bits, %d words left)", word.toUpperCase(), bits, remaining);
+    }
+}
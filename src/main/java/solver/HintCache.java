@@ -0,0 +1,57 @@
+package solver;
+
+import model.CandidateSet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HintCache
+ * ---------
+ * Normal-mode hints keyed by the remaining candidates: the best guess depends only on which
+ * secrets are still possible, so games that reach the same set (common when everyone plays
+ * the same daily puzzle) share one entropy ranking. A small LRU, safe for many threads.
+ * Keys are snapshots (CandidateSet.copy()) and must not be modified once added.
+ */
+public final class HintCache {
+    private final Map<CandidateSet, Hint> hints;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public HintCache(int capacity) {
+        this.hints = new LinkedHashMap<CandidateSet, Hint>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CandidateSet, Hint> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /** The cached hint for exactly these candidates, or null. */
+    public Hint get(CandidateSet candidates) {
+        Hint hint;
+        synchronized (hints) {
+            hint = hints.get(candidates);
+        }
+        if (hint != null) hits.increment();
+        else misses.increment();
+        return hint;
+    }
+
+    public void put(CandidateSet snapshot, Hint hint) {
+        if (hint == null) return;
+        synchronized (hints) {
+            hints.put(snapshot, hint);
+        }
+    }
+
+    public int size() {
+        synchronized (hints) {
+            return hints.size();
+        }
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+}
@@ -0,0 +1,28 @@
+package solver;
+
+import model.CandidateSet;
+import model.WordleModel;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// RandomCandidateStrategy.java
+// Baseline strategy: guesses a uniformly random word that is still consistent with the
+// feedback so far. Cheap enough to measure raw scoring/filtering throughput.
+
+public class RandomCandidateStrategy implements Strategy {
+
+    @Override
+    public String nextGuess(WordleModel model) {
+        CandidateSet remaining = model.getCandidates();
+        if (remaining.size() == 0) {
+            throw new IllegalStateException("No candidate words left for secret " + model.getSecretWord());
+        }
+        int skip = ThreadLocalRandom.current().nextInt(remaining.size());
+        int idx = remaining.nextSetBit(0);
+        for (int i = 0; i < skip; i++) idx = remaining.nextSetBit(idx + 1);
+        return remaining.getDictionary().wordAt(idx);
+    }
+
+    @Override
+    public String getName() { return "random"; }
+}
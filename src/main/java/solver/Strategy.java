@@ -0,0 +1,24 @@
+package solver;
+
+import model.WordleModel;
+
+// Strategy.java
+// A pluggable guessing policy used to play games without a UI (batch simulation,
+// strategy regression tests). Implementations must be safe to share across threads.
+
+public interface Strategy {
+    /** The next word to play given the model's guesses and remaining candidates. */
+    String nextGuess(WordleModel model);
+
+    String getName();
+
+    /** Looks up a built-in strategy: "entropy", "tree" or "random". */
+    static Strategy byName(String name) {
+        switch (name.toLowerCase()) {
+            case "entropy": return new EntropyStrategy();
+            case "tree": return new DecisionTreeStrategy();
+            case "random": return new RandomCandidateStrategy();
+            default: throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+}
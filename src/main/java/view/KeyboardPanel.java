@@ -0,0 +1,61 @@
+package view;
+
+import model.LetterFeedback;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.function.Consumer;
+
+// KeyboardPanel.java
+// The on-screen QWERTY keyboard shared by the game windows. Clicks are passed on as key
+// names ("A".."Z", "ENTER", "BACKSPACE"); letter keys are colored with the best feedback
+// seen so far and only repainted when that changes.
+
+final class KeyboardPanel extends JPanel {
+    private final JButton[] letterKeys = new JButton[26];
+    private final int[] keyRank = new int[26]; // see WordleTheme.rank
+    private final Consumer<String> onKey;
+
+    KeyboardPanel(Consumer<String> onKey) {
+        this.onKey = onKey;
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+        addKeyboardRow(new String[]{"Q","W","E","R","T","Y","U","I","O","P"});
+        addKeyboardRow(new String[]{"A","S","D","F","G","H","J","K","L"});
+        addKeyboardRow(new String[]{"ENTER","Z","X","C","V","B","N","M","BACKSPACE"});
+    }
+
+    // keys only ever upgrade (gray -> yellow -> green) within a game; reset puts them back
+    void setKey(int k, LetterFeedback eval, boolean reset) {
+        if (k < 0 || k >= 26) return;
+        int rank = WordleTheme.rank(eval);
+        if (reset ? keyRank[k] == 0 : rank <= keyRank[k]) return;
+        keyRank[k] = rank;
+        JButton key = letterKeys[k];
+        key.setBackground(reset ? WordleTheme.KEY : WordleTheme.background(eval));
+        key.setForeground(reset ? Color.BLACK : WordleTheme.keyText(eval));
+    }
+
+    void resetKeys() {
+        for (int k = 0; k < 26; k++) setKey(k, null, true);
+    }
+
+    private void addKeyboardRow(String[] keys) {
+        JPanel row = new JPanel(new FlowLayout(FlowLayout.CENTER, 5, 5));
+        for (String key : keys) {
+            JButton btn = new JButton(key);
+            btn.setBackground(WordleTheme.KEY); // official Wordle light-gray
+            btn.setFont(WordleTheme.KEY_FONT);
+            btn.setForeground(Color.BLACK);
+            btn.setFocusPainted(false);
+            btn.setOpaque(true);
+            btn.setBorderPainted(false);
+            btn.setFocusable(false);
+            btn.addActionListener(e -> onKey.accept(key));
+            if (key.length() == 1) letterKeys[key.charAt(0) - 'A'] = btn;
+
+            if ("ENTER".equals(key) || "BACKSPACE".equals(key)) btn.setPreferredSize(new Dimension(80, 40));
+            row.add(btn);
+        }
+        add(row);
+    }
+}
@@ -0,0 +1,233 @@
+package view;
+
+import control.GameListener;
+import control.GuessResult;
+import control.GuessValidator;
+import control.MultiBoardController;
+import metrics.Metrics;
+import metrics.Timer;
+import model.Guess;
+import model.LetterFeedback;
+import model.MultiBoardModel;
+import model.WordScorer;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.concurrent.Executors;
+
+// MultiBoardWordle.java
+// Swing window for multi-board games (4 = Quordle, 8 = Octordle, 16, ...): one small grid
+// per board, laid out in a grid of boards that grows with the board count, and one shared
+// keyboard. Rendering is incremental like SwingWordle's: a guess only draws its new row on
+// each unsolved board, and a keystroke only touches the input row.
+// Started from Main with -Dwordle.boards=N (and optionally -Dwordle.length).
+
+public class MultiBoardWordle extends JFrame {
+    private static final Timer RENDER_TIMER = Metrics.timer("view.multi.render");
+
+    private final MultiBoardModel model;
+    private final MultiBoardController controller;
+    private final int boards, rows, cols;
+
+    private final JLabel[][][] cells; // [board][row][col]
+    private final JPanel[] boardPanels;
+    private final char[][][] shownLetters;
+    private final LetterFeedback[][][] shownEval;
+    private final boolean[] shownSolved;
+    private int shownGuessRows;
+    private String shownBuffer = "";
+
+    private final JLabel status = new JLabel("", SwingConstants.CENTER);
+    private final KeyboardPanel keyboardPanel = new KeyboardPanel(this::onKeyPress);
+
+    public MultiBoardWordle(int boardCount, int wordLength) {
+        model = MultiBoardModel.random(boardCount, wordLength);
+        controller = new MultiBoardController(model);
+        controller.setExecutors(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "wordle-multi-pipeline");
+            t.setDaemon(true);
+            return t;
+        }), SwingUtilities::invokeLater);
+        controller.addListener(new GameListener() {
+            @Override
+            public void guessAccepted(Guess guess) { refresh(); }
+
+            @Override
+            public void guessRejected(GuessResult result) { onGuessRejected(result); }
+        });
+
+        boards = model.getBoardCount();
+        rows = model.getMaxGuesses();
+        cols = model.getWordLength();
+        cells = new JLabel[boards][rows][cols];
+        boardPanels = new JPanel[boards];
+        shownLetters = new char[boards][rows][cols];
+        shownEval = new LetterFeedback[boards][rows][cols];
+        shownSolved = new boolean[boards];
+
+        setTitle("Wordle x" + boards);
+        setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) { GuessValidator.saveCache(); }
+        });
+        setLayout(new BorderLayout());
+        status.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        status.setFont(WordleTheme.STATUS_FONT);
+        add(status, BorderLayout.NORTH);
+        add(buildBoards(), BorderLayout.CENTER);
+        add(keyboardPanel, BorderLayout.SOUTH);
+        setupKeyBindings();
+
+        refresh();
+        pack();
+        setLocationRelativeTo(null);
+        setVisible(true);
+    }
+
+    private void onKeyPress(String key) {
+        controller.onKeyPress(key);
+        renderBuffer();
+    }
+
+    private void onGuessRejected(GuessResult result) {
+        if (result.getStatus() == GuessResult.Status.INVALID_WORD) {
+            JOptionPane.showMessageDialog(this, "Not a valid English word!", "Invalid Guess", JOptionPane.WARNING_MESSAGE);
+        }
+        refresh();
+    }
+
+    private void refresh() {
+        long start = System.nanoTime();
+        renderGuesses();
+        renderBuffer();
+        status.setText("Solved " + model.getSolvedCount() + "/" + boards
+                + " | Guesses: " + model.getGuessCount() + "/" + rows);
+        RENDER_TIMER.recordSince(start);
+
+        if (model.isWon() || model.isLost()) showPopup();
+    }
+
+    // only rows added since the last render; boards that were already solved stay blank below
+    private void renderGuesses() {
+        int count = model.getGuessCount();
+        for (int r = shownGuessRows; r < count; r++) {
+            String word = model.getGuess(r);
+            for (int b = 0; b < boards; b++) {
+                int pattern = model.getPattern(r, b);
+                if (pattern == MultiBoardModel.NOT_PLAYED) {
+                    for (int c = 0; c < cols; c++) setCell(b, r, c, (char) 0, null);
+                    continue;
+                }
+                for (int c = 0; c < cols; c++) {
+                    LetterFeedback eval = WordScorer.feedbackAt(pattern, c);
+                    setCell(b, r, c, Character.toUpperCase(word.charAt(c)), eval);
+                    keyboardPanel.setKey(word.charAt(c) - 'a', eval, false);
+                }
+            }
+        }
+        shownGuessRows = count;
+        for (int b = 0; b < boards; b++) {
+            if (!shownSolved[b] && model.isSolved(b)) {
+                shownSolved[b] = true;
+                boardPanels[b].setBorder(BorderFactory.createLineBorder(WordleTheme.CORRECT, 3));
+            }
+        }
+    }
+
+    // the typed word is mirrored on the next row of every unsolved board
+    private void renderBuffer() {
+        String buf = controller.getBuffer();
+        int row = model.getGuessCount();
+        if (buf.equals(shownBuffer) || row >= rows) {
+            shownBuffer = buf;
+            return;
+        }
+        for (int b = 0; b < boards; b++) {
+            if (model.isSolved(b)) continue;
+            for (int c = 0; c < cols; c++) setCell(b, row, c, c < buf.length() ? buf.charAt(c) : (char) 0, null);
+        }
+        shownBuffer = buf;
+    }
+
+    private void setCell(int b, int r, int c, char letter, LetterFeedback eval) {
+        JLabel cell = cells[b][r][c];
+        if (shownLetters[b][r][c] != letter) {
+            shownLetters[b][r][c] = letter;
+            cell.setText(letter == 0 ? "" : letter >= 'A' && letter <= 'Z'
+                    ? WordleTheme.LETTERS[letter - 'A'] : String.valueOf(letter));
+        }
+        if (shownEval[b][r][c] != eval) {
+            shownEval[b][r][c] = eval;
+            cell.setBackground(WordleTheme.background(eval));
+        }
+    }
+
+    private void showPopup() {
+        StringBuilder msg = new StringBuilder(model.isWon() ? "You solved every board!" : "Out of guesses!");
+        msg.append("\n\n");
+        for (int b = 0; b < boards; b++) {
+            msg.append(model.getSecretWord(b).toUpperCase());
+            msg.append(model.isSolved(b) ? "  (" + model.getSolvedAt(b) + ")" : "  (missed)");
+            msg.append(b % 4 == 3 ? '\n' : ' ');
+        }
+        int choice = JOptionPane.showOptionDialog(this, msg.toString(), "Game Over",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.INFORMATION_MESSAGE,
+                null, new String[]{"New game"}, "New game");
+        dispose();
+        if (choice == 0) new MultiBoardWordle(boards, cols);
+    }
+
+    // boards in a grid of up to 8 columns; cells shrink as the board count grows
+    private JPanel buildBoards() {
+        int boardCols = boards == 1 ? 1 : boards <= 4 ? 2 : boards <= 16 ? 4 : 8;
+        int boardRows = (boards + boardCols - 1) / boardCols;
+        Font font = WordleTheme.CELL_FONT.deriveFont(boards <= 4 ? 20f : boards <= 8 ? 16f : 12f);
+        int cellSize = boards <= 4 ? 34 : boards <= 8 ? 28 : 20;
+
+        JPanel all = new JPanel(new GridLayout(boardRows, boardCols, 8, 8));
+        all.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        for (int b = 0; b < boards; b++) {
+            JPanel grid = new JPanel(new GridLayout(rows, cols, 2, 2));
+            grid.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY, 3));
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    JLabel cell = new JLabel("", SwingConstants.CENTER);
+                    cell.setOpaque(true);
+                    cell.setBackground(WordleTheme.EMPTY_CELL);
+                    cell.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY, 1));
+                    cell.setFont(font);
+                    cell.setPreferredSize(new Dimension(cellSize, cellSize));
+                    cells[b][r][c] = cell;
+                    grid.add(cell);
+                }
+            }
+            boardPanels[b] = grid;
+            all.add(grid);
+        }
+        return all;
+    }
+
+    private void setupKeyBindings() {
+        InputMap inputMap = getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        ActionMap actionMap = getRootPane().getActionMap();
+        for (char c = 'a'; c <= 'z'; c++) {
+            String letter = String.valueOf(c).toUpperCase();
+            inputMap.put(KeyStroke.getKeyStroke(c), letter);
+            inputMap.put(KeyStroke.getKeyStroke(Character.toUpperCase(c)), letter);
+            actionMap.put(letter, action(letter));
+        }
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_ENTER, 0), "ENTER");
+        actionMap.put("ENTER", action("ENTER"));
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_BACK_SPACE, 0), "BACKSPACE");
+        actionMap.put("BACKSPACE", action("BACKSPACE"));
+    }
+
+    private AbstractAction action(String key) {
+        return new AbstractAction() { public void actionPerformed(ActionEvent e) { onKeyPress(key); }};
+    }
+}
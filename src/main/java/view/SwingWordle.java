@@ -1,7 +1,16 @@
 package view;
 
 import model.*;
+import control.DailyPuzzleService;
+import control.GameListener;
+import control.GuessResult;
+import control.GuessValidator;
 import control.WordleController;
+import io.GameHistory;
+import io.GameStats;
+import metrics.Counter;
+import metrics.Metrics;
+import metrics.Timer;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
@@ -9,27 +18,45 @@ import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.Executors;
 
 // SwingWordle.java
 // Implements the graphical user interface for the Wordle game using Java Swing.
 // Displays the grid, on-screen keyboard, and status bar while delegating logic to the controller.
+// Rendering is incremental: the view remembers what each cell/key shows and only updates
+// components whose letter or color actually changed (keystrokes only touch the input row).
+// The grid is sized from the game (word length x guess limit); -Dwordle.length and
+// -Dwordle.maxGuesses pick a variant, replacing a saved game of a different shape.
+// Hard mode is switched with the Hard checkbox (or -Dwordle.hardMode) before the first guess.
+// -Dwordle.daily=true plays the shared puzzle of the day (DailyPuzzleService).
+// -Dwordle.adversarial=true plays adversarial games, where the secret dodges every guess.
 
 
 public class SwingWordle extends JFrame {
+    private static final Timer RENDER_TIMER = Metrics.timer("view.render");
+    private static final Timer KEY_TIMER = Metrics.timer("view.keystroke");
+    private static final Counter CELL_UPDATES = Metrics.counter("view.cellUpdates");
+
     private WordleModel model;
     private WordleController controller;
-    private int refreshCount = 0;
 
-    private JLabel[][] boardCells = new JLabel[6][5];
-    private Map<String, JButton> keyboardButtons = new HashMap<>();
-    private Map<String, JButton> usedButtons = new HashMap<>();
+    private int rows, cols; // guess limit x word length, fixed once the grid is built
+    private JLabel[][] boardCells;
+
+    // what is currently on screen, so each render only touches what changed
+    private char[][] shownLetters; // 0 = blank
+    private LetterFeedback[][] shownEval; // null = not scored
+    private int shownGame = -1;
+    private int shownGuessRows;
+    private int shownScore = -1, shownGuesses = -1, shownRemaining = -1;
+    private boolean shownChecking;
 
-    JPanel wordGrid = new JPanel(new GridLayout(6, 5, 6, 6)); // slightly larger spacing
+    JPanel wordGrid = new JPanel();
     JLabel status = new JLabel("Guess the Word!", SwingConstants.CENTER);
-    JPanel keyboardPanel = new JPanel();
+    JButton hintButton = new JButton("Hint");
+    JButton statsButton = new JButton("Stats");
+    JCheckBox hardModeBox = new JCheckBox("Hard");
+    KeyboardPanel keyboardPanel = new KeyboardPanel(this::onKeyPress);
 
     public SwingWordle() {
         setTitle("Wordle");
@@ -38,6 +65,8 @@ public class SwingWordle extends JFrame {
             @Override
             public void windowClosing(WindowEvent e) {
                 controller.saveGame();
+                GuessValidator.saveCache();
+                if (controller.getHistory() != null) controller.getHistory().close();
                 System.exit(0);
             }
         });
@@ -51,16 +80,52 @@ public class SwingWordle extends JFrame {
         }
         controller = new WordleController(model);
         controller.loadGame();
+        // guesses are validated/scored/saved on a background thread; results come back on the EDT
+        controller.setExecutors(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "wordle-guess-pipeline");
+            t.setDaemon(true);
+            return t;
+        }), SwingUtilities::invokeLater);
+        controller.addListener(new GameListener() {
+            @Override
+            public void guessAccepted(Guess guess) { refresh(); }
+
+            @Override
+            public void guessRejected(GuessResult result) { onGuessRejected(result); }
+        });
+        controller.setAutoSave(true);
+        applyVariant();
+        controller.setHardMode(Boolean.getBoolean("wordle.hardMode"));
+        controller.setAdversarial(Boolean.getBoolean("wordle.adversarial"));
+        try {
+            controller.setHistory(GameHistory.openDefault());
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Game history unavailable: " + e.getMessage());
+        }
 
         JPanel top = new JPanel(new BorderLayout());
         status.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
-        status.setFont(new Font("Arial", Font.BOLD, 22));
+        status.setFont(WordleTheme.STATUS_FONT);
         top.add(status, BorderLayout.CENTER);
+        hintButton.setFont(WordleTheme.KEY_FONT);
+        hintButton.setFocusable(false);
+        hintButton.addActionListener(e -> showHint());
+        statsButton.setFont(WordleTheme.KEY_FONT);
+        statsButton.setFocusable(false);
+        statsButton.addActionListener(e -> showStats());
+        hardModeBox.setFont(WordleTheme.KEY_FONT);
+        hardModeBox.setFocusable(false);
+        hardModeBox.setSelected(controller.isHardMode());
+        hardModeBox.addActionListener(e -> controller.setHardMode(hardModeBox.isSelected()));
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT, 5, 0));
+        buttons.add(hardModeBox);
+        buttons.add(statsButton);
+        buttons.add(hintButton);
+        top.add(buttons, BorderLayout.EAST);
         add(top, BorderLayout.NORTH);
 
         add(wordGrid, BorderLayout.CENTER);
         buildGrid();
-        buildKeyBoard();
         add(keyboardPanel, BorderLayout.SOUTH);
         setupKeyBindings();
 
@@ -71,173 +136,202 @@ public class SwingWordle extends JFrame {
     }
 
     private void onKeyPress(String key) {
+        long start = System.nanoTime();
         controller.onKeyPress(key);
+        renderBuffer(); // a keystroke only touches the input row (and status, once a guess is in flight)
+        renderStatus();
+        KEY_TIMER.recordSince(start);
+    }
+
+    private void onGuessRejected(GuessResult result) {
+        GuessResult.Status reason = result.getStatus();
+        String word = result.getWord();
+        if (reason == GuessResult.Status.HARD_MODE) {
+            JOptionPane.showMessageDialog(this, result.getMessage(), "Hard Mode", JOptionPane.WARNING_MESSAGE);
+        } else if (reason == GuessResult.Status.INVALID_WORD) {
+            JOptionPane.showMessageDialog(this, word.toUpperCase() + " is not a valid English word!",
+                    "Invalid Guess", JOptionPane.WARNING_MESSAGE);
+        } else if (reason == GuessResult.Status.WRONG_LENGTH) {
+            JOptionPane.showMessageDialog(this, "Please enter a " + cols + "-letter word.",
+                    "Invalid Input", JOptionPane.WARNING_MESSAGE);
+        }
         refresh();
     }
 
+    // brings every region up to date, touching only cells/keys whose content changed
     private void refresh() {
-        if (refreshCount == 0) loadScreenGuesses();
-        updateScreenGuesses();
-        updateScreenBuffer();
-        status.setText("Score: " + controller.getGameScore() + " | Guesses: " + controller.getGuessCount());
+        long start = System.nanoTime();
+        renderGuesses();
+        renderBuffer();
+        renderStatus();
+        RENDER_TIMER.recordSince(start); // before the (modal) game-over popup
 
         if (controller.isWon()) showPopup(true);
         else if (controller.isLost()) showPopup(false);
-
-        for (JButton btn : usedButtons.values()) {
-            btn.repaint();
-        }
-
-        refreshCount++;
     }
 
-    private void showPopup(Boolean won) {
-        String msg = won ? "You won! The word was " + controller.getSecretWord()
-                : "You lost! The word was " + controller.getSecretWord();
-        int choice = JOptionPane.showOptionDialog(
-                this, msg, "Game Over",
-                JOptionPane.DEFAULT_OPTION, JOptionPane.INFORMATION_MESSAGE,
-                null, new String[]{"Reset"}, "Reset");
-        if (choice == 0) resetGame();
-    }
-
-    private void resetGame() {
-        for (int i = 0; i < controller.getGuessCount(); i++) {
-            for (int j = 0; j < 5; j++) {
-                boardCells[i][j].setText("");
-                boardCells[i][j].setBackground(Color.WHITE);
+    // scored rows: only rows added since the last render are drawn; a new game clears the old ones
+    private void renderGuesses() {
+        int game = controller.getGameNumber();
+        int count = controller.getGuessCount();
+        if (game != shownGame || count < shownGuessRows) {
+            for (int r = 0; r < shownGuessRows; r++) {
+                for (int c = 0; c < cols; c++) setCell(r, c, (char) 0, null);
             }
+            keyboardPanel.resetKeys();
+            shownGuessRows = 0;
+            shownGame = game;
         }
-        try { controller.refreshGame(); } catch (Exception e) { e.printStackTrace(); }
-        for (JButton b : usedButtons.values()) b.setBackground(new Color(230, 230, 230));
-        usedButtons.clear();
-        refresh();
+        Guess[] guesses = controller.getGuesses();
+        for (int r = shownGuessRows; r < count; r++) {
+            Guess g = guesses[r];
+            for (int c = 0; c < cols; c++) {
+                char ch = g.getGuess().charAt(c);
+                LetterFeedback eval = g.getLetterEval(c);
+                setCell(r, c, Character.toUpperCase(ch), eval);
+                keyboardPanel.setKey(Character.toLowerCase(ch) - 'a', eval, false);
+            }
+        }
+        shownGuessRows = count;
     }
 
-    private void loadScreenGuesses() {
-        if (controller.getGuessCount() > 0) {
-            Guess[] guessesMade = Arrays.copyOf(controller.getGuesses(), controller.getGuessCount());
-            for (int i = 0; i < guessesMade.length; i++) {
-                Guess g = guessesMade[i];
-                for (int j = 0; j < 5; j++) {
-                    char ch = g.getGuess().charAt(j);
-                    LetterFeedback eval = g.getLetterEval(j);
-                    boardCells[i][j].setText(String.valueOf(ch).toUpperCase());
-                    switch (eval) {
-                        case CORRECT: boardCells[i][j].setBackground(new Color(0, 200, 0)); break;
-                        case PRESENT: boardCells[i][j].setBackground(new Color(255, 200, 0)); break;
-                        case ABSENT:  boardCells[i][j].setBackground(new Color(180, 180, 180)); break;
-                    }
-                }
+    // the row being typed sits below any guesses still in flight (which keep their letters);
+    // rows under it are blank, e.g. after an in-flight guess was rejected
+    private void renderBuffer() {
+        int row = Math.max(shownGuessRows, controller.getGuessCount() + controller.getPendingCount());
+        String buf = controller.getBuffer();
+        for (int r = row; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                setCell(r, c, r == row && c < buf.length() ? buf.charAt(c) : (char) 0, null);
             }
         }
     }
 
-    private void updateScreenGuesses() {
-        if (controller.getGuessState()) {
-            int row = controller.getGuessCount() - 1;
-            Guess g = controller.getLastGuess();
-            if (g != null) {
-                for (int i = 0; i < 5; i++) {
-                    char ch = g.getGuess().charAt(i);
-                    LetterFeedback eval = g.getLetterEval(i);
-
-                    // Updates grid cell text
-                    boardCells[row][i].setText(String.valueOf(ch).toUpperCase());
-                    boardCells[row][i].setOpaque(true);
-
-                    // Applies official Wordle-style colors
-                    switch (eval) {
-                        case CORRECT -> boardCells[row][i].setBackground(new Color(106, 170, 100));   // green
-                        case PRESENT -> boardCells[row][i].setBackground(new Color(201, 180, 88));   // yellow
-                        case ABSENT -> boardCells[row][i].setBackground(new Color(120, 124, 126));   // gray
-                    }
-
-                    // --- KEYBOARD COLOR LOGIC ---
-                    JButton key = keyboardButtons.get(String.valueOf(ch).toUpperCase());
-                    if (key != null) {
-                        Color newColor = switch (eval) {
-                            case CORRECT -> new Color(106, 170, 100);   // green
-                            case PRESENT -> new Color(201, 180, 88);    // yellow
-                            case ABSENT -> new Color(120, 124, 126);    // gray
-                        };
-
-                        // Does not downgrade colors (keeps green over yellow/gray)
-                        Color current = key.getBackground();
-                        if (!current.equals(new Color(106, 170, 100))) {
-                            if (eval == LetterFeedback.CORRECT ||
-                                    (eval == LetterFeedback.PRESENT && !current.equals(new Color(201, 180, 88))) ||
-                                    (eval == LetterFeedback.ABSENT && current.equals(new Color(211, 214, 218)))) {
-
-                                key.setBackground(newColor);
-                                // Automatically adjust text color for contrast
-                                if (eval == LetterFeedback.CORRECT || eval == LetterFeedback.PRESENT) {
-                                    key.setForeground(Color.WHITE);
-                                } else {
-                                    key.setForeground(Color.BLACK);
-                                }
-                                key.setOpaque(true);
-                                key.repaint();
-
-                            }
-                        }
-
-                        usedButtons.put(String.valueOf(ch).toUpperCase(), key);
-                    }
-                }
-            }
-            controller.resetGuessState();
+    private void renderStatus() {
+        int score = controller.getGameScore();
+        int guesses = controller.getGuessCount();
+        int remaining = controller.getRemainingCount();
+        boolean checking = controller.getPendingCount() > 0;
+        if (score == shownScore && guesses == shownGuesses && remaining == shownRemaining && checking == shownChecking) {
+            return;
         }
+        shownScore = score;
+        shownGuesses = guesses;
+        shownRemaining = remaining;
+        shownChecking = checking;
+        hardModeBox.setEnabled(guesses == 0); // like the official game, only switched before the first guess
+        status.setText("Score: " + score + " | Guesses: " + guesses + " | Words left: " + remaining
+                + (checking ? " | Checking..." : ""));
     }
 
+    private void setCell(int r, int c, char letter, LetterFeedback eval) {
+        JLabel cell = boardCells[r][c];
+        boolean changed = false;
+        if (shownLetters[r][c] != letter) {
+            shownLetters[r][c] = letter;
+            cell.setText(letter == 0 ? "" : letter >= 'A' && letter <= 'Z'
+                    ? WordleTheme.LETTERS[letter - 'A'] : String.valueOf(letter));
+            changed = true;
+        }
+        if (shownEval[r][c] != eval) {
+            shownEval[r][c] = eval;
+            cell.setBackground(WordleTheme.background(eval));
+            changed = true;
+        }
+        if (changed) CELL_UPDATES.increment();
+    }
 
+    // solver runs off the EDT; the result is shown back on the EDT
+    private void showHint() {
+        hintButton.setEnabled(false);
+        hintButton.setText("...");
+        controller.requestHint().whenComplete((hint, err) -> SwingUtilities.invokeLater(() -> {
+            hintButton.setEnabled(true);
+            hintButton.setText("Hint");
+            String msg;
+            if (err != null) msg = "Could not compute a hint: " + err.getMessage();
+            else if (hint == null) msg = "No dictionary word matches the feedback so far.";
+            else msg = "Try " + hint;
+            JOptionPane.showMessageDialog(this, msg, "Hint", JOptionPane.INFORMATION_MESSAGE);
+        }));
+    }
 
-    private void updateScreenBuffer() {
-        int row = controller.getGuessCount();
-        if (row < 6) {
-            String buf = controller.getBuffer();
-            for (int i = 0; i < 5; i++) {
-                boardCells[row][i].setText(i < buf.length() ? String.valueOf(buf.charAt(i)) : "");
-            }
+    // stats are maintained incrementally by GameHistory, so this never scans the history
+    private void showStats() {
+        GameHistory history = controller.getHistory();
+        if (history == null) {
+            JOptionPane.showMessageDialog(this, "No game history available.", "Statistics", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        StringBuilder msg = new StringBuilder();
+        synchronized (history) {
+            GameStats stats = history.getStats();
+            msg.append("Profile: ").append(history.getProfile()).append('\n');
+            msg.append(String.format("Played: %d   Win %%: %.0f%n", stats.getGames(), stats.getWinRate() * 100));
+            msg.append("Current streak: ").append(stats.getCurrentStreak())
+                    .append("   Max streak: ").append(stats.getMaxStreak()).append("\n\n");
+            int[] dist = stats.getDistribution();
+            for (int i = 1; i < dist.length; i++) msg.append(i).append(": ").append(dist[i]).append('\n');
+            msg.append("X: ").append(dist[0]).append('\n');
+            if (stats.getGames() > 0) msg.append("\nHardest words: ").append(stats.hardestWords(3));
         }
+        JOptionPane.showMessageDialog(this, msg.toString(), "Statistics", JOptionPane.INFORMATION_MESSAGE);
     }
 
-    private void buildKeyBoard() {
-        keyboardPanel.setLayout(new BoxLayout(keyboardPanel, BoxLayout.Y_AXIS));
-        addKeyboardRow(new String[]{"Q","W","E","R","T","Y","U","I","O","P"});
-        addKeyboardRow(new String[]{"A","S","D","F","G","H","J","K","L"});
-        addKeyboardRow(new String[]{"ENTER","Z","X","C","V","B","N","M","BACKSPACE"});
+    private void showPopup(Boolean won) {
+        String msg = won ? "You won! The word was " + controller.getSecretWord()
+                : "You lost! The word was " + controller.getSecretWord();
+        int choice = JOptionPane.showOptionDialog(
+                this, msg, "Game Over",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.INFORMATION_MESSAGE,
+                null, new String[]{"Reset"}, "Reset");
+        if (choice == 0) resetGame();
     }
 
-    private void addKeyboardRow(String[] keys) {
-        JPanel row = new JPanel(new FlowLayout(FlowLayout.CENTER, 5, 5));
-        for (String key : keys) {
-            JButton btn = new JButton(key);
-            btn.setBackground(new Color(211, 214, 218)); // official Wordle light-gray
-            btn.setFont(new Font("Arial", Font.BOLD, 14));
-            btn.setForeground(Color.BLACK);
-            btn.setFocusPainted(false);
-            btn.setOpaque(true);
-            btn.setBorderPainted(false);
-            btn.setFocusable(false);
-            btn.addActionListener(e -> onKeyPress(key));
-            keyboardButtons.put(key, btn);
+    private void resetGame() {
+        try { controller.refreshGame(); } catch (Exception e) { e.printStackTrace(); }
+        refresh(); // the new game number makes renderGuesses clear the board and keyboard
+    }
 
-            if ("ENTER".equals(key) || "BACKSPACE".equals(key)) btn.setPreferredSize(new Dimension(80, 40));
-            row.add(btn);
+    // a saved game of another shape than the requested variant is replaced by a fresh one
+    private void applyVariant() {
+        if (Boolean.getBoolean("wordle.daily")) {
+            DailyPuzzleService.Day day = DailyPuzzleService.getDefault().today();
+            if (model.getSecretWord().equals(day.getPuzzle().getSecretWord()) && model.getGuessCount() > 0) {
+                controller.setHintCache(day.getHints()); // today's game restored from the save
+            } else {
+                controller.startDaily(day);
+            }
+            setTitle("Wordle #" + day.getPuzzle().getNumber());
+            return;
+        }
+        int length = Integer.getInteger("wordle.length", model.getWordLength());
+        int maxGuesses = Integer.getInteger("wordle.maxGuesses", model.getMaxGuesses());
+        if (length == model.getWordLength() && maxGuesses == model.getMaxGuesses()) return;
+        try {
+            model.newGame(length, maxGuesses);
+            model.saveNewGame();
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠️ Unsupported variant, keeping " + model.getWordLength() + "x"
+                    + model.getMaxGuesses() + ": " + e.getMessage());
         }
-        keyboardPanel.add(row);
     }
 
     private void buildGrid() {
+        rows = controller.getMaxGuesses();
+        cols = controller.getWordLength();
+        boardCells = new JLabel[rows][cols];
+        shownLetters = new char[rows][cols];
+        shownEval = new LetterFeedback[rows][cols];
+        wordGrid.setLayout(new GridLayout(rows, cols, 6, 6)); // slightly larger spacing
         wordGrid.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
-        for (int r = 0; r < 6; r++) {
-            for (int c = 0; c < 5; c++) {
-                JLabel cell = new JLabel(" ", SwingConstants.CENTER);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                JLabel cell = new JLabel("", SwingConstants.CENTER);
                 cell.setOpaque(true);
-                cell.setBackground(Color.WHITE);
+                cell.setBackground(WordleTheme.EMPTY_CELL);
                 cell.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY, 2));
-                cell.setFont(new Font("Arial", Font.BOLD, 26));
+                cell.setFont(WordleTheme.CELL_FONT);
                 boardCells[r][c] = cell;
                 wordGrid.add(cell);
             }
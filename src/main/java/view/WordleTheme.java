@@ -0,0 +1,55 @@
+package view;
+
+import model.LetterFeedback;
+
+import java.awt.Color;
+import java.awt.Font;
+
+// WordleTheme.java
+// Shared, immutable colors and fonts for the Swing views (official Wordle palette).
+// Created once so rendering never allocates Color/Font/String objects on the EDT.
+
+final class WordleTheme {
+    static final Color CORRECT = new Color(106, 170, 100);   // green
+    static final Color PRESENT = new Color(201, 180, 88);    // yellow
+    static final Color ABSENT = new Color(120, 124, 126);    // gray
+    static final Color EMPTY_CELL = Color.WHITE;
+    static final Color KEY = new Color(211, 214, 218);       // untouched keyboard key
+
+    static final Font CELL_FONT = new Font("Arial", Font.BOLD, 26);
+    static final Font KEY_FONT = new Font("Arial", Font.BOLD, 14);
+    static final Font STATUS_FONT = new Font("Arial", Font.BOLD, 22);
+
+    static final String[] LETTERS = new String[26]; // "A".."Z"
+
+    static {
+        for (int i = 0; i < 26; i++) LETTERS[i] = String.valueOf((char) ('A' + i));
+    }
+
+    private WordleTheme() {
+    }
+
+    static Color background(LetterFeedback eval) {
+        if (eval == null) return EMPTY_CELL;
+        switch (eval) {
+            case CORRECT: return CORRECT;
+            case PRESENT: return PRESENT;
+            default: return ABSENT;
+        }
+    }
+
+    /** Text color on a key after feedback: white on green/yellow for contrast, black otherwise. */
+    static Color keyText(LetterFeedback eval) {
+        return eval == LetterFeedback.CORRECT || eval == LetterFeedback.PRESENT ? Color.WHITE : Color.BLACK;
+    }
+
+    /** Ordering used so a key never downgrades: untouched < absent < present < correct. */
+    static int rank(LetterFeedback eval) {
+        if (eval == null) return 0;
+        switch (eval) {
+            case CORRECT: return 3;
+            case PRESENT: return 2;
+            default: return 1;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.google.gson.Gson;
+import io.GameJournal;
+import io.SaveLoad;
+import io.SaveState;
+import io.SaveStateReader;
+import model.*;
+import sim.ReplayAnalyzer;
+import sim.ReplayReport;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// AdversarialTest.java
+// JUnit 5 tests for adversarial mode: the answer is the largest feedback bucket, the
+// stand-in secret always agrees with the feedback given, a win needs the last word, and
+// the mode survives a save and is left out of replay analysis, and a moving secret is not
+// mistaken for a new game.
+
+public class AdversarialTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void answerKeepsTheLargestBucket() {
+        WordDictionary dict = WordDictionary.getDefault();
+        AdversarialSecret adversary = new AdversarialSecret(dict);
+        Random rnd = new Random(25);
+        for (int game = 0; game < 20; game++) {
+            CandidateSet candidates = new CandidateSet(dict);
+            for (int turn = 0; turn < 3 && candidates.size() > 1; turn++) {
+                long guess = dict.packedAt(rnd.nextInt(dict.size()));
+                int[] counts = new int[WordScorer.patternCount(5)];
+                for (int i : candidates.toIndices()) counts[WordScorer.score(guess, dict.packedAt(i), 5)]++;
+                int expected = 0;
+                for (int p = 1; p < counts.length; p++) if (counts[p] > counts[expected]) expected = p;
+
+                int pattern = adversary.answer(guess, candidates);
+                assertEquals(expected, pattern);
+                assertEquals(counts[expected], candidates.size());
+                for (int i : candidates.toIndices()) assertEquals(pattern, WordScorer.score(guess, dict.packedAt(i), 5));
+            }
+        }
+    }
+
+    @Test
+    void secretDodgesTheFirstGuess() {
+        WordleModel model = new WordleModel("crane");
+        model.setAdversarial(true);
+        model.makeGuess("crane");
+        assertFalse(model.isWon());
+        assertNotEquals("crane", model.getSecretWord());
+        assertTrue(model.getRemainingCount() > 100);
+    }
+
+    @Test
+    void gameNumberIgnoresTheMovingSecret() {
+        WordleModel model = new WordleModel("crane");
+        model.setAdversarial(true);
+        int game = model.getGameNumber();
+        model.makeGuess("slate");
+        model.makeGuess("crane");
+        assertEquals(game, model.getGameNumber(), "A new stand-in secret is not a new game");
+        model.startGame(model.getSecretWord(), WordleModel.DEFAULT_MAX_GUESSES);
+        assertNotEquals(game, model.getGameNumber(), "Restarting with an equal secret is");
+    }
+
+    @Test
+    void feedbackStaysConsistentUntilTheLastWord() {
+        WordleModel model = new WordleModel("apple", WordleModel.MAX_GUESS_LIMIT);
+        model.setAdversarial(true);
+        int remainingBefore = model.getRemainingCount();
+        while (!model.isWon() && !model.isLost()) {
+            CandidateSet candidates = model.getCandidates();
+            remainingBefore = model.getRemainingCount();
+            model.makeGuess(candidates.getDictionary().wordAt(candidates.nextSetBit(0)));
+        }
+        assertTrue(model.isWon());
+        assertEquals(1, remainingBefore);
+        String secret = model.getSecretWord();
+        for (int i = 0; i < model.getGuessCount(); i++) {
+            Guess g = model.getGuesses()[i];
+            assertEquals(WordScorer.score(g.getPacked(), WordCodec.encode(secret), 5), g.getPattern());
+        }
+    }
+
+    @Test
+    void modeSurvivesSaveAndLoad() {
+        WordleModel model = new WordleModel("crane");
+        model.setAdversarial(true);
+        GameJournal journal = new GameJournal(tmp.resolve("save.bin"), tmp.resolve("save.journal"), false);
+        SaveLoad.saveState(model, journal);
+        model.makeGuess("slate");
+        SaveLoad.recordGuess(model, journal);
+        SaveLoad.saveState(model, tmp.resolve("save.json").toFile());
+
+        WordleModel binary = new WordleModel("zzzzz");
+        SaveLoad.loadState(binary, new GameJournal(tmp.resolve("save.bin"), tmp.resolve("save.journal"), false));
+        WordleModel json = new WordleModel("zzzzz");
+        SaveLoad.loadState(json, tmp.resolve("save.json").toFile());
+        for (WordleModel loaded : List.of(binary, json)) {
+            assertTrue(loaded.isAdversarial());
+            assertEquals(model.getSecretWord(), loaded.getSecretWord());
+            assertEquals(model.getRemainingCount(), loaded.getRemainingCount());
+            loaded.makeGuess("crane");
+            assertFalse(loaded.isWon(), "The reloaded game keeps dodging");
+        }
+    }
+
+    @Test
+    void replayAnalysisSkipsAdversarialGames() throws Exception {
+        Gson gson = new Gson();
+        String input = gson.toJson(new SaveState(0, "crane", List.of("slate", "crane"), 6, true)) + "\n"
+                + gson.toJson(new SaveState(0, "crane", List.of("slate", "crane"), 6)) + "\n";
+        try (SaveStateReader reader = new SaveStateReader(new StringReader(input))) {
+            ReplayReport report = new ReplayAnalyzer(1).run(reader, null, ReplayAnalyzer.Format.CSV);
+            assertEquals(1, report.getGames());
+            assertEquals(1, report.getSkipped());
+        }
+    }
+}
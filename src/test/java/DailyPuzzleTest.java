@@ -0,0 +1,144 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import control.DailyPuzzleService;
+import control.WordleController;
+import model.*;
+import solver.EntropySolver;
+import solver.Hint;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+
+// DailyPuzzleTest.java
+// JUnit 5 tests for the daily puzzle: deterministic date-seeded secrets, games scored from
+// the shared day state, and the service building the next day ahead of midnight.
+
+public class DailyPuzzleTest {
+
+    @TempDir
+    Path tmp;
+
+    private static final List<String> WORDS = Arrays.asList(
+            "crane", "slate", "trace", "crate", "react", "apple", "mango", "grape", "light", "sound",
+            "might", "night", "fight", "sight", "tight", "bound", "found", "mound", "round", "wound");
+
+    private static Clock at(String instant) {
+        return Clock.fixed(Instant.parse(instant), ZoneOffset.UTC);
+    }
+
+    @Test
+    void secretsAreDeterministicAndDoNotRepeatWithinACycle() {
+        WordDictionary dict = WordDictionary.fromWords(WORDS, 5);
+        WordDictionary answers = WordDictionary.fromWords(WORDS.subList(0, 8), 5);
+        Set<String> seen = new HashSet<>();
+        for (int n = 0; n < answers.size(); n++) {
+            LocalDate date = DailyPuzzle.FIRST_DAY.plusDays(n);
+            DailyPuzzle puzzle = DailyPuzzle.forDate(date, dict, answers);
+            assertEquals(n, puzzle.getNumber());
+            assertEquals(puzzle.getSecretWord(), DailyPuzzle.forDate(date, dict, answers).getSecretWord());
+            assertTrue(seen.add(puzzle.getSecretWord()), "Repeated before the list ran out: " + puzzle.getSecretWord());
+        }
+        assertEquals(new HashSet<>(WORDS.subList(0, 8)), seen, "Secrets come from the answer list only");
+        assertThrows(IllegalArgumentException.class, () -> DailyPuzzle.forDate(DailyPuzzle.FIRST_DAY,
+                WordDictionary.fromWords(WORDS.subList(8, 20), 5), answers));
+    }
+
+    @Test
+    void dailyGameScoresLikeARegularGame() {
+        DailyPuzzle puzzle = DailyPuzzle.forDate(LocalDate.of(2026, 10, 17), 5);
+        assertSame(WordDictionary.getDefault(), puzzle.getDictionary());
+        assertTrue(WordDictionary.getDefaultAnswers().contains(puzzle.getSecretWord()));
+        WordleModel daily = new WordleModel(puzzle);
+        WordleModel plain = new WordleModel(puzzle.getSecretWord());
+        for (String word : new String[]{"crane", "sloth", puzzle.getSecretWord()}) {
+            daily.makeGuess(word);
+            plain.makeGuess(word);
+            assertEquals(plain.getLastGuess().getPattern(), daily.getLastGuess().getPattern());
+            assertEquals(plain.getRemainingCount(), daily.getRemainingCount());
+        }
+        assertTrue(daily.isWon());
+        assertSame(puzzle, daily.getDailyPuzzle());
+        assertSame(puzzle.candidatesAfter(WordCodec.encode("crane")), puzzle.candidatesAfter(WordCodec.encode("crane")),
+                "Opener bitsets are built once per day");
+
+        daily.startGame("light", 6);
+        assertNull(daily.getDailyPuzzle(), "A new random game leaves the daily puzzle");
+    }
+
+    @Test
+    void dailyGameNarrowsOverThePuzzlesOwnDictionary() {
+        WordDictionary dict = WordDictionary.fromWords(WORDS, 5);
+        DailyPuzzle puzzle = DailyPuzzle.forDate(LocalDate.of(2026, 10, 17), dict, dict);
+        WordleModel daily = new WordleModel("apple");
+        daily.startDaily(puzzle);
+        assertSame(dict, daily.getCandidates().getDictionary());
+        long secret = WordCodec.encode(puzzle.getSecretWord());
+        long[] guesses = {WordCodec.encode("crane"), WordCodec.encode("sloth")};
+        for (int turn = 0; turn < guesses.length; turn++) {
+            daily.makeGuess(WordCodec.decode(guesses[turn]));
+            int expected = 0;
+            for (int i = 0; i < dict.size(); i++) {
+                boolean consistent = true;
+                for (int t = 0; t <= turn; t++) {
+                    consistent &= WordScorer.score(guesses[t], dict.packedAt(i), 5) == WordScorer.score(guesses[t], secret, 5);
+                }
+                if (consistent) expected++;
+            }
+            assertEquals(expected, daily.getRemainingCount());
+        }
+        assertSame(dict, new WordleModel(puzzle).getCandidates().getDictionary());
+    }
+
+    @Test
+    void serviceBuildsTomorrowOnlyNearMidnight() {
+        WordDictionary dict = WordDictionary.fromWords(WORDS, 5);
+        EntropySolver solver = new EntropySolver(PatternTable.load(dict, dict, tmp.resolve("patterns.bin")), null);
+        LocalDate today = LocalDate.of(2026, 10, 17);
+
+        DailyPuzzleService noon = new DailyPuzzleService(dict, dict, solver, at("2026-10-17T12:00:00Z"),
+                Duration.ofMinutes(10), WORDS.subList(0, 2));
+        noon.forDate(today.minusDays(3));
+        noon.prepareAhead();
+        assertTrue(noon.isReady(today));
+        assertFalse(noon.isReady(today.plusDays(1)));
+        assertFalse(noon.isReady(today.minusDays(3)), "Old days are dropped");
+        assertEquals(today, noon.today().getPuzzle().getDate());
+
+        DailyPuzzleService late = new DailyPuzzleService(dict, dict, solver, at("2026-10-17T23:55:00Z"),
+                Duration.ofMinutes(10), WORDS.subList(0, 2));
+        late.prepareAhead();
+        assertTrue(late.isReady(today.plusDays(1)));
+        assertEquals(2, late.forDate(today.plusDays(1)).getHints().size(), "Hints after each opener are precomputed");
+    }
+
+    @Test
+    void gamesOfTheDayShareHints() throws Exception {
+        WordDictionary dict = WordDictionary.getDefault();
+        DailyPuzzleService service = new DailyPuzzleService(dict, WordDictionary.getDefaultAnswers(), EntropySolver.getDefault(),
+                at("2026-10-17T12:00:00Z"), Duration.ofMinutes(10), Collections.singletonList("crane"));
+        DailyPuzzleService.Day day = service.today();
+        assumeFalse(day.getPuzzle().getSecretWord().equals("crane"));
+
+        WordleController first = new WordleController(new WordleModel("light"));
+        first.startDaily(day);
+        first.forceGuess("crane");
+        Hint hint = first.requestHint().get();
+        assertEquals(1, day.getHints().getHits(), "The opener's hint was computed with the day");
+
+        WordleController second = new WordleController(new WordleModel("light"));
+        second.startDaily(day);
+        second.forceGuess("crane");
+        assertSame(hint, second.requestHint().get());
+    }
+}
@@ -0,0 +1,109 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import control.WordleController;
+import model.*;
+import solver.DecisionTree;
+import solver.DecisionTreeBuilder;
+import solver.DecisionTreeStrategy;
+import solver.Hint;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// DecisionTreeTest.java
+// JUnit 5 tests for the precomputed guessing strategy: building a tree over a small
+// dictionary, following it to every secret, the binary round trip, and the bundled tree
+// serving controller hints.
+
+public class DecisionTreeTest {
+
+    @TempDir
+    Path tmp;
+
+    private static final List<String> WORDS = Arrays.asList(
+            "crane", "slate", "trace", "crate", "react", "apple", "mango", "grape", "light", "sound",
+            "might", "night", "fight", "sight", "tight", "bound", "found", "mound", "round", "wound");
+
+    private DecisionTree build(WordDictionary dict) {
+        PatternTable table = PatternTable.load(dict, dict, tmp.resolve("patterns.bin"));
+        return new DecisionTreeBuilder(table, 4, 2, 6).build(ForkJoinPool.commonPool());
+    }
+
+    // plays the tree against a secret and returns how many guesses it took
+    private static int play(DecisionTree tree, String secret) {
+        Guess[] guesses = new Guess[12];
+        for (int n = 0; n < guesses.length; n++) {
+            Hint hint = tree.next(guesses, n);
+            assertNotNull(hint, "Tree left its own path for " + secret);
+            guesses[n] = new Guess(hint.getWord(), secret);
+            if (hint.getWord().equals(secret)) return n + 1;
+        }
+        return fail("Tree never solved " + secret);
+    }
+
+    @Test
+    void treeSolvesEverySecret() {
+        WordDictionary dict = WordDictionary.fromWords(WORDS, 5);
+        DecisionTree tree = build(dict);
+
+        int total = 0, max = 0;
+        for (String secret : WORDS) {
+            int n = play(tree, secret);
+            total += n;
+            max = Math.max(max, n);
+        }
+        assertEquals((double) total / WORDS.size(), tree.averageGuesses(), 1e-9);
+        assertEquals(max, tree.maxGuesses());
+        assertTrue(max <= 6);
+    }
+
+    @Test
+    void offTreeHistoryIsNotAnswered() {
+        WordDictionary dict = WordDictionary.fromWords(WORDS, 5);
+        DecisionTree tree = build(dict);
+
+        String other = tree.guessAt(0).equals("apple") ? "mango" : "apple";
+        assertNull(tree.next(new Guess[]{new Guess(other, "light")}, 1));
+        String opener = tree.guessAt(0);
+        assertNull(tree.next(new Guess[]{new Guess(opener, opener)}, 1), "Solved games have no next guess");
+    }
+
+    @Test
+    void roundTripsAndRejectsOtherDictionaries() throws Exception {
+        WordDictionary dict = WordDictionary.fromWords(WORDS, 5);
+        DecisionTree tree = build(dict);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        tree.write(bytes);
+
+        DecisionTree loaded = DecisionTree.read(new ByteArrayInputStream(bytes.toByteArray()), dict);
+        assertEquals(tree.nodeCount(), loaded.nodeCount());
+        for (String secret : WORDS) assertEquals(play(tree, secret), play(loaded, secret));
+
+        List<String> changed = new ArrayList<>(WORDS);
+        changed.set(0, "brine");
+        WordDictionary other = WordDictionary.fromWords(changed, 5);
+        assertThrows(IllegalStateException.class,
+                () -> DecisionTree.read(new ByteArrayInputStream(bytes.toByteArray()), other));
+    }
+
+    @Test
+    void bundledTreeServesHintsAndStrategy() throws Exception {
+        DecisionTree tree = DecisionTree.getDefault();
+        assertNotNull(tree, "decision_tree.bin should match the bundled dictionary");
+
+        WordleModel model = new WordleModel("light");
+        WordleController controller = new WordleController(model);
+        assertEquals(tree.guessAt(0), controller.requestHint().get().getWord());
+
+        DecisionTreeStrategy strategy = new DecisionTreeStrategy();
+        while (!model.isWon() && !model.isLost()) controller.forceGuess(strategy.nextGuess(model));
+        assertTrue(model.isWon());
+        assertTrue(model.getGuessCount() <= 6);
+    }
+}
@@ -0,0 +1,114 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import model.WordCodec;
+import model.WordDictionary;
+import control.GuessValidator;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// DictionaryTest.java
+// JUnit 5 tests for the packed word codec, the in-memory dictionary, the streaming
+// word-list loader (with its optional frequency column), the answer list and offline
+// guess validation.
+
+public class DictionaryTest {
+
+    @Test
+    void codecRoundTrip() {
+        long packed = WordCodec.encode("Crane");
+        assertEquals("crane", WordCodec.decode(packed));
+        assertEquals(5, WordCodec.length(packed));
+        assertEquals(WordCodec.INVALID, WordCodec.encode("cr4ne"), "Non-letters cannot be packed.");
+    }
+
+    @Test
+    void bundledDictionaryLookups() {
+        WordDictionary dict = WordDictionary.getDefault();
+        assertTrue(dict.size() > 1000, "Bundled word list should be loaded.");
+        assertTrue(dict.contains("apple"));
+        assertTrue(dict.contains("CRANE"), "Lookups should ignore case.");
+        assertFalse(dict.contains("xqzvj"));
+        assertEquals("apple", dict.wordAt(dict.indexOf("apple")));
+    }
+
+    @Test
+    void customDictionaryDropsDuplicatesAndWrongLengths() {
+        WordDictionary dict = WordDictionary.fromWords(Arrays.asList("apple", "apple", "hi", "grape"), 5);
+        assertEquals(2, dict.size());
+    }
+
+    @Test
+    void streamingLoaderSkipsJunkLines(@TempDir Path tmp) throws Exception {
+        Path file = tmp.resolve("list.txt");
+        Files.write(file, "apple\r\n  Grape \nhi\nwater melon\ncaf\u00e9s\ntoolongword\napple\nlemon"
+                .getBytes(StandardCharsets.UTF_8)); // CRLF, case, spaces, short, inner space, non-ASCII, no final newline
+        WordDictionary dict = WordDictionary.fromFile(file, 5);
+        assertEquals(3, dict.size());
+        assertTrue(dict.contains("apple") && dict.contains("grape") && dict.contains("lemon"));
+    }
+
+    @Test
+    void streamingLoaderMatchesInMemoryList() throws Exception {
+        WordDictionary streamed = WordDictionary.getDefault();
+        List<String> lines = Files.readAllLines(Path.of(DictionaryTest.class.getResource("/words.txt").toURI()));
+        lines.replaceAll(line -> line.split(" ")[0]); // drop the frequency column
+        WordDictionary listed = WordDictionary.fromWords(lines, 5);
+        assertEquals(listed.size(), streamed.size());
+        assertEquals(listed.fingerprint(), streamed.fingerprint());
+    }
+
+    @Test
+    void frequencyColumnIsAlignedToWordIndex(@TempDir Path tmp) throws Exception {
+        Path file = tmp.resolve("weighted.txt");
+        Files.write(file, "zebra 30\nslate\t2.5\napple\ncrane 4x\nmango 1 2\nlemon 60 \ngrape .5"
+                .getBytes(StandardCharsets.UTF_8)); // tab, no column, bad number, two numbers, trailing space
+        WordDictionary dict = WordDictionary.fromFile(file, 5);
+        assertEquals(5, dict.size());
+        assertFalse(dict.contains("crane") || dict.contains("mango"), "Lines with a malformed column are dropped.");
+        assertTrue(dict.hasFrequencies());
+        assertEquals(30f, dict.frequency(dict.indexOf("zebra")));
+        assertEquals(2.5f, dict.frequency(dict.indexOf("slate")));
+        assertEquals(60f, dict.frequency(dict.indexOf("lemon")));
+        assertEquals(0.5f, dict.frequency(dict.indexOf("grape")));
+        assertEquals(0.5f, dict.frequency(dict.indexOf("apple")), "Unlisted words weigh as much as the rarest.");
+
+        int[] picks = new int[dict.size()];
+        int draws = 10_000;
+        for (int i = 0; i < draws; i++) picks[dict.sampleIndex((i + 0.5) / draws)]++;
+        double total = 30 + 2.5 + 60 + 0.5 + 0.5;
+        for (int w = 0; w < dict.size(); w++) {
+            assertEquals(dict.frequency(w) / total, (double) picks[w] / draws, 0.001, dict.wordAt(w));
+        }
+    }
+
+    @Test
+    void bundledDictionaryIsWeighted() {
+        WordDictionary dict = WordDictionary.getDefault();
+        assertTrue(dict.hasFrequencies());
+        assertTrue(dict.frequency(dict.indexOf("which")) > dict.frequency(dict.indexOf("abaci")));
+        assertFalse(WordDictionary.fromWords(Arrays.asList("apple", "grape"), 5).hasFrequencies());
+    }
+
+    @Test
+    void answerListIsACuratedSubset() {
+        WordDictionary dict = WordDictionary.getDefault();
+        WordDictionary answers = WordDictionary.getDefaultAnswers();
+        assertSame(answers, WordDictionary.getDefaultAnswers());
+        assertTrue(answers.size() > 500 && answers.size() < dict.size() / 2);
+        for (int i = 0; i < answers.size(); i++) assertTrue(dict.contains(answers.packedAt(i)), answers.wordAt(i));
+        assertTrue(answers.hasFrequencies());
+        assertTrue(answers.contains("crane") && !answers.contains("abaci"));
+    }
+
+    @Test
+    void validatorWorksOffline() {
+        assertTrue(GuessValidator.isValid("slate"));
+        assertFalse(GuessValidator.isValid("zzzzz"));
+        assertFalse(GuessValidator.isValid("toolong"));
+    }
+}
@@ -0,0 +1,84 @@
+import org.junit.jupiter.api.Test;
+import control.GuessResult;
+import control.WordleController;
+import model.*;
+import solver.EntropySolver;
+import solver.Hint;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// HardModeTest.java
+// JUnit 5 tests for hard mode: the compiled constraints agree with rescoring the
+// history, violations are explained, and hints only suggest legal guesses.
+
+public class HardModeTest {
+
+    @Test
+    void constraintsMatchRescoringTheHistory() {
+        WordDictionary dict = WordDictionary.getDefault();
+        Random rnd = new Random(19);
+        for (int game = 0; game < 40; game++) {
+            long secret = dict.packedAt(rnd.nextInt(dict.size()));
+            long[] guesses = new long[3];
+            HardModeConstraints rules = new HardModeConstraints(5);
+            for (int i = 0; i < guesses.length; i++) {
+                guesses[i] = dict.packedAt(rnd.nextInt(dict.size()));
+                rules.add(guesses[i], WordScorer.score(guesses[i], secret, 5));
+            }
+            long[] mask = rules.matchMask(dict);
+            for (int w = 0; w < dict.size(); w++) {
+                boolean fits = true;
+                for (long g : guesses) {
+                    fits &= WordScorer.score(g, dict.packedAt(w), 5) == WordScorer.score(g, secret, 5);
+                }
+                assertEquals(fits, (mask[w >>> 6] & (1L << w)) != 0, "word " + dict.wordAt(w));
+            }
+        }
+    }
+
+    @Test
+    void greensAndRevealedLettersMustBeReused() {
+        HardModeConstraints rules = new HardModeConstraints(5);
+        rules.add(new Guess("might", "light"));
+        assertTrue(rules.isHardModeGuess(WordCodec.encode("fight")));
+        assertEquals("2nd letter must be I", rules.hardModeViolation(WordCodec.encode("crane")));
+
+        rules = new HardModeConstraints(5);
+        rules.add(new Guess("plead", "apple"));
+        assertEquals("Guess must contain L", rules.hardModeViolation(WordCodec.encode("crane")));
+
+        // two yellow Es and a gray one: exactly two Es
+        rules = new HardModeConstraints(5);
+        rules.add(new Guess("eerie", "sheep"));
+        assertTrue(rules.isHardModeGuess(WordCodec.encode("eject")));
+        assertEquals("Guess must contain E", rules.hardModeViolation(WordCodec.encode("hello")));
+        assertTrue(rules.matches(WordCodec.encode("sheep")));
+    }
+
+    @Test
+    void controllerRejectsHardModeViolations() {
+        WordleModel model = new WordleModel("light");
+        model.setHardMode(true);
+        WordleController controller = new WordleController(model);
+        assertEquals(GuessResult.Status.ACCEPTED, controller.submitGuess("might").join().getStatus());
+        GuessResult rejected = controller.submitGuess("crane").join();
+        assertEquals(GuessResult.Status.HARD_MODE, rejected.getStatus());
+        assertEquals("2nd letter must be I", rejected.getMessage());
+        assertEquals(1, model.getGuessCount());
+
+        model.makeGuess("crane"); // the model enforces it too
+        assertEquals(1, model.getGuessCount());
+    }
+
+    @Test
+    void hardModeHintsAreLegalGuesses() {
+        WordleModel model = new WordleModel("light");
+        model.setHardMode(true);
+        model.makeGuess("might");
+        HardModeConstraints rules = model.copyConstraints();
+        Hint hint = EntropySolver.getDefault().suggest(model.copyCandidates(), rules);
+        assertNotNull(hint);
+        assertTrue(rules.isHardModeGuess(WordCodec.encode(hint.getWord())), "hint " + hint.getWord());
+    }
+}
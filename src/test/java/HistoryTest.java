@@ -0,0 +1,91 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.GameHistory;
+import io.GameStats;
+import io.HistoryEntry;
+import model.WordleModel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// HistoryTest.java
+// JUnit 5 tests for per-profile game history: incremental statistics,
+// reopening, rebuilding lost stats and separate profiles.
+
+public class HistoryTest {
+
+    @TempDir
+    Path tmp;
+
+    private static HistoryEntry play(String secret, String... guesses) {
+        WordleModel model = new WordleModel(secret);
+        for (String g : guesses) model.makeGuess(g);
+        return HistoryEntry.of(model, 1000, 2000);
+    }
+
+    private static HistoryEntry loss(String secret) {
+        return play(secret, "crane", "sloth", "might", "dwarf", "quick", "jumpy");
+    }
+
+    @Test
+    void statsAreUpdatedAsGamesAreAdded() {
+        try (GameHistory history = GameHistory.open(tmp, "alice")) {
+            history.add(play("apple", "crane", "apple"));
+            history.add(play("light", "light"));
+            history.add(loss("apple"));
+            history.add(play("crane", "slate", "trace", "crane"));
+
+            GameStats stats = history.getStats();
+            assertEquals(4, stats.getGames());
+            assertEquals(3, stats.getWins());
+            assertEquals(1, stats.getCurrentStreak());
+            assertEquals(2, stats.getMaxStreak());
+            assertArrayEquals(new int[]{1, 1, 1, 1, 0, 0, 0}, stats.getDistribution());
+            assertEquals(2, stats.getPlays("apple"));
+            assertEquals(4.5, stats.getDifficulty("apple"), 1e-9);
+            assertEquals("apple", stats.hardestWords(1).get(0));
+
+            HistoryEntry last = history.get(3);
+            assertEquals("crane", last.getSecretWord());
+            assertEquals("trace", last.getGuess(1));
+            assertTrue(last.isWon());
+            List<HistoryEntry> recent = history.recent(2);
+            assertEquals("crane", recent.get(0).getSecretWord());
+            assertFalse(recent.get(1).isWon());
+        }
+    }
+
+    @Test
+    void statsSurviveReopenAndAreRebuiltIfLost() throws Exception {
+        try (GameHistory history = GameHistory.open(tmp, "bob")) {
+            history.add(play("apple", "apple"));
+            history.add(loss("light"));
+        }
+        try (GameHistory history = GameHistory.open(tmp, "bob")) {
+            assertEquals(2, history.size());
+            assertEquals(1, history.getStats().getWins());
+            history.add(play("light", "might", "light"));
+        }
+
+        Files.delete(tmp.resolve("bob.stats"));
+        try (GameHistory history = GameHistory.open(tmp, "bob")) {
+            GameStats stats = history.getStats();
+            assertEquals(3, stats.getGames());
+            assertEquals(2, stats.getWins());
+            assertEquals(1, stats.getCurrentStreak());
+            assertEquals(4.5, stats.getDifficulty("light"), 1e-9);
+        }
+    }
+
+    @Test
+    void profilesAreKeptApart() {
+        try (GameHistory a = GameHistory.open(tmp, "alice"); GameHistory b = GameHistory.open(tmp, "bob")) {
+            a.add(play("apple", "apple"));
+            assertEquals(0, b.size());
+        }
+        assertEquals(List.of("alice", "bob"), GameHistory.profiles(tmp));
+        assertThrows(IllegalArgumentException.class, () -> GameHistory.open(tmp, "../evil"));
+    }
+}
@@ -0,0 +1,74 @@
+import org.junit.jupiter.api.Test;
+import control.WordleController;
+import metrics.Counter;
+import metrics.Metrics;
+import metrics.Timer;
+import model.WordleModel;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// MetricsTest.java
+// JUnit 5 tests for the metrics registry: timer percentiles, concurrent
+// counters, JMX exposure and the controller's per-stage timers.
+
+public class MetricsTest {
+
+    @Test
+    void timerPercentilesAreWithinBucketPrecision() {
+        Timer timer = Metrics.timer("test.latency");
+        for (int i = 1; i <= 1000; i++) timer.record(i * 1000L); // 1us .. 1ms
+
+        assertEquals(1000, timer.getCount());
+        assertEquals(500.5, timer.getMeanMicros(), 1e-6);
+        assertEquals(1000, timer.getMaxMicros(), 1e-6);
+        assertEquals(500, timer.getP50Micros(), 500 * 0.25);
+        assertEquals(990, timer.getP99Micros(), 990 * 0.25);
+        assertTrue(timer.getP99Micros() <= timer.getMaxMicros());
+        assertSame(timer, Metrics.timer("test.latency"));
+    }
+
+    @Test
+    void countersAreExactUnderContention() throws Exception {
+        Counter counter = Metrics.counter("test.events");
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> { for (int i = 0; i < 100_000; i++) counter.increment(); });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(800_000, counter.getCount());
+    }
+
+    @Test
+    void metricsArePublishedOverJmx() throws Exception {
+        Metrics.counter("test.jmx").add(42);
+        Metrics.gauge("test.gauge", () -> 0.75);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(42L, server.getAttribute(
+                new ObjectName("wordle:type=Counter,name=" + ObjectName.quote("test.jmx")), "Count"));
+        assertEquals(0.75, (Double) server.getAttribute(
+                new ObjectName("wordle:type=Gauge,name=" + ObjectName.quote("test.gauge")), "Value"), 1e-9);
+        assertTrue(Metrics.report().contains("test.jmx: 42"));
+    }
+
+    @Test
+    void guessPipelineRecordsStageTimings() {
+        long validated = Metrics.timer("guess.validate").getCount();
+        long scored = Metrics.timer("guess.score").getCount();
+        long rejected = Metrics.counter("guess.rejected.invalidWord").getCount();
+
+        WordleController controller = new WordleController(new WordleModel("light"));
+        controller.onGuess("crane");
+        controller.onGuess("zzzzz");
+
+        assertEquals(validated + 2, Metrics.timer("guess.validate").getCount());
+        assertEquals(scored + 1, Metrics.timer("guess.score").getCount());
+        assertEquals(rejected + 1, Metrics.counter("guess.rejected.invalidWord").getCount());
+    }
+}
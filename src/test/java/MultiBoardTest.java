@@ -0,0 +1,98 @@
+import org.junit.jupiter.api.Test;
+import control.GameListener;
+import control.GuessResult;
+import control.MultiBoardController;
+import model.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// MultiBoardTest.java
+// JUnit 5 tests for multi-board games: batch scoring agrees with single scoring,
+// boards solve independently, the controller reports through GameListeners, and a
+// 16-board guess stays far below a frame's time.
+
+public class MultiBoardTest {
+
+    @Test
+    void scoreAllMatchesSingleScores() {
+        WordDictionary dict = WordDictionary.getDefault();
+        Random rnd = new Random(18);
+        long[] secrets = new long[16];
+        int[] out = new int[16];
+        for (int round = 0; round < 200; round++) {
+            for (int i = 0; i < secrets.length; i++) secrets[i] = dict.packedAt(rnd.nextInt(dict.size()));
+            long guess = dict.packedAt(rnd.nextInt(dict.size()));
+            WordScorer.scoreAll(guess, secrets, 5, out);
+            for (int i = 0; i < secrets.length; i++) assertEquals(WordScorer.score(guess, secrets[i], 5), out[i]);
+        }
+    }
+
+    @Test
+    void boardsAreSolvedIndependently() {
+        MultiBoardModel model = new MultiBoardModel("apple", "crane", "light", "sloth");
+        assertEquals(9, model.getMaxGuesses());
+        assertTrue(model.makeGuess("crane"));
+        assertTrue(model.isSolved(1));
+        assertEquals(1, model.getSolvedAt(1));
+        assertFalse(model.makeGuess("toolong"), "Wrong length is rejected.");
+
+        model.makeGuess("sloth");
+        assertEquals(MultiBoardModel.NOT_PLAYED, model.getPattern(1, 1), "Solved boards are not played again.");
+        assertEquals(WordScorer.allCorrect(5), model.getPattern(1, 3));
+
+        // each board narrows exactly like a single game with the same guesses
+        WordleModel single = new WordleModel("light");
+        single.makeGuess("crane");
+        single.makeGuess("sloth");
+        assertEquals(single.getRemainingCount(), model.getRemainingCount(2));
+
+        model.makeGuess("light");
+        model.makeGuess("apple");
+        assertTrue(model.isWon());
+        assertFalse(model.makeGuess("crane"), "Finished games take no more guesses.");
+    }
+
+    @Test
+    void controllerRejectsNonWords() {
+        MultiBoardController controller = new MultiBoardController(new MultiBoardModel("apple", "crane", "light", "sloth"));
+        List<String> events = new ArrayList<>();
+        controller.addListener(new GameListener() {
+            @Override public void guessAccepted(Guess guess) { events.add("accepted " + guess.getGuess()); }
+            @Override public void guessRejected(String word, GuessResult.Status reason) { events.add("rejected " + reason); }
+            @Override public void gameWon(String secretWord, int guesses) { events.add("won " + secretWord + " " + guesses); }
+        });
+        assertEquals(GuessResult.Status.INVALID_WORD, controller.submitGuess("zzzzz").join().getStatus());
+        assertEquals(GuessResult.Status.WRONG_LENGTH, controller.submitGuess("app").join().getStatus());
+        GuessResult slate = controller.submitGuess("slate").join();
+        assertTrue(slate.isAccepted());
+        assertEquals(new Guess("slate", "apple").getPattern(), slate.getGuess().getPattern());
+        assertEquals(1, controller.getModel().getGuessCount());
+        for (String word : new String[]{"apple", "crane", "light", "sloth"}) controller.submitGuess(word).join();
+        assertEquals(GuessResult.Status.GAME_OVER, controller.submitGuess("slate").join().getStatus());
+        assertEquals(List.of("rejected INVALID_WORD", "rejected WRONG_LENGTH", "accepted slate", "accepted apple",
+                "accepted crane", "accepted light", "accepted sloth", "won apple crane light sloth 5",
+                "rejected GAME_OVER"), events);
+    }
+
+    @Test
+    void sixteenBoardGuessFitsInAFrame() {
+        WordDictionary dict = WordDictionary.getDefault();
+        String[] secrets = new String[16];
+        for (int i = 0; i < secrets.length; i++) secrets[i] = dict.wordAt(i * 311);
+        String[] guesses = {"crane", "sloth", "pudgy", "wimpy", "fjord", "vexed", "squib", "knelt"};
+
+        for (int warm = 0; warm < 5; warm++) play(secrets, guesses);
+        long start = System.nanoTime();
+        play(secrets, guesses);
+        long perGuessMicros = (System.nanoTime() - start) / guesses.length / 1000;
+        assertTrue(perGuessMicros < 16_000, "16-board guess took " + perGuessMicros + "us");
+    }
+
+    private static void play(String[] secrets, String[] guesses) {
+        MultiBoardModel model = new MultiBoardModel(secrets);
+        for (String g : guesses) model.makeGuess(g);
+    }
+}
@@ -0,0 +1,49 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import model.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// PatternTableTest.java
+// JUnit 5 tests for the precomputed pattern table: contents match WordScorer,
+// the cache file is reused, and a changed dictionary is detected as stale.
+
+public class PatternTableTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void tableMatchesScorerAndIsReused() throws Exception {
+        WordDictionary dict = WordDictionary.fromWords(Arrays.asList("apple", "paper", "crane", "eerie", "there"), 5);
+        Path file = tmp.resolve("patterns.bin");
+
+        PatternTable table = PatternTable.load(dict, dict, file);
+        assertTrue(Files.exists(file), "Cache file should be written.");
+        for (int g = 0; g < dict.size(); g++) {
+            for (int s = 0; s < dict.size(); s++) {
+                assertEquals(WordScorer.score(dict.packedAt(g), dict.packedAt(s)), table.pattern(g, s));
+            }
+        }
+
+        long modified = Files.getLastModifiedTime(file).toMillis();
+        PatternTable reloaded = PatternTable.load(dict, dict, file);
+        assertEquals(modified, Files.getLastModifiedTime(file).toMillis(), "Valid cache should not be rebuilt.");
+        assertEquals(table.pattern(1, 2), reloaded.pattern(1, 2));
+    }
+
+    @Test
+    void staleCacheIsRebuilt() {
+        Path file = tmp.resolve("patterns.bin");
+        WordDictionary first = WordDictionary.fromWords(Arrays.asList("apple", "paper"), 5);
+        WordDictionary second = WordDictionary.fromWords(Arrays.asList("crane", "slate"), 5);
+        PatternTable.load(first, first, file);
+
+        PatternTable table = PatternTable.load(second, second, file);
+        assertEquals(WordScorer.allCorrect(5), table.pattern(0, 0));
+        assertEquals(WordScorer.score(second.packedAt(0), second.packedAt(1)), table.pattern(0, 1));
+    }
+}
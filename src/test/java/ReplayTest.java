@@ -0,0 +1,100 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.google.gson.Gson;
+import io.SaveState;
+import io.SaveStateReader;
+import model.PatternTable;
+import sim.ReplayAnalyzer;
+import sim.ReplayReport;
+import solver.EntropySolver;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// ReplayTest.java
+// JUnit 5 tests for the replay pipeline: streaming saves, outcomes, skipped saves,
+// rows kept in input order across batches, and skill for the solver's own guess.
+
+public class ReplayTest {
+
+    @TempDir
+    Path tmp;
+
+    private static String line(String secret, String... guesses) {
+        return new Gson().toJson(new SaveState(0, secret, Arrays.asList(guesses), 6)) + "\n";
+    }
+
+    @Test
+    void readerStreamsLinesAndArrays() throws Exception {
+        String lines = line("apple", "crane") + line("crane", "slate", "crane");
+        String array = "[" + line("apple", "crane") + "," + line("crane", "crane") + "]";
+        for (String input : List.of(lines, array)) {
+            try (SaveStateReader reader = new SaveStateReader(new StringReader(input))) {
+                assertEquals("apple", reader.next().getSecretWord());
+                assertEquals("crane", reader.next().getSecretWord());
+                assertNull(reader.next());
+            }
+        }
+    }
+
+    @Test
+    void outcomesAndSkippedSaves() throws Exception {
+        Path file = tmp.resolve("games.jsonl");
+        Files.writeString(file, line("apple", "crane", "angle", "apple")
+                + line("crane", "tares", "slate", "apple", "angle", "tares", "slate")
+                + line("slate", "crane")
+                + line("zzzzz", "crane")
+                + line("apple", "crane", "xy"));
+        ReplayReport report;
+        try (SaveStateReader reader = SaveStateReader.open(file)) {
+            report = new ReplayAnalyzer(2).run(reader, null, ReplayAnalyzer.Format.CSV);
+        }
+        assertEquals(3, report.getGames());
+        assertEquals(2, report.getSkipped());
+        assertEquals(1, report.getWins());
+        assertEquals(1, report.getSolvedIn(3));
+        assertEquals(1, report.getLosses());
+        assertEquals(1, report.getUnfinished());
+        assertEquals(3, report.getTurns(0));
+    }
+
+    @Test
+    void rowsStayInInputOrderAcrossBatches() throws Exception {
+        StringBuilder input = new StringBuilder();
+        List<String> secrets = List.of("apple", "crane", "angle");
+        for (int i = 0; i < 1200; i++) input.append(line(secrets.get(i % 3), "tares", secrets.get(i % 3)));
+        StringWriter out = new StringWriter();
+        try (SaveStateReader reader = new SaveStateReader(new StringReader(input.toString()))) {
+            new ReplayAnalyzer(3).run(reader, out, ReplayAnalyzer.Format.CSV);
+        }
+        String[] rows = out.toString().split("\n");
+        assertEquals(ReplayAnalyzer.CSV_HEADER.trim(), rows[0]);
+        assertEquals(1 + 2400, rows.length);
+        List<Long> games = new ArrayList<>();
+        for (int i = 1; i < rows.length; i += 2) games.add(Long.parseLong(rows[i].split(",")[0]));
+        for (int i = 0; i < games.size(); i++) assertEquals(i + 1, games.get(i));
+        assertTrue(rows[2].startsWith("1,2,apple,GGGGG,"));
+    }
+
+    @Test
+    void solversOwnOpenerScoresFullSkill() throws Exception {
+        PatternTable table = PatternTable.getDefault();
+        int[] all = new int[table.getSecrets().size()];
+        for (int i = 0; i < all.length; i++) all[i] = i;
+        String opener = new EntropySolver(table, null).rank(all, 1).get(0).getWord();
+
+        StringWriter out = new StringWriter();
+        try (SaveStateReader reader = new SaveStateReader(new StringReader(line("apple", opener)))) {
+            ReplayReport report = new ReplayAnalyzer(1).run(reader, out, ReplayAnalyzer.Format.JSON);
+            assertEquals(1.0, report.getAverageSkill(0), 1e-9);
+        }
+        assertTrue(out.toString().contains("\"bestGuess\":\"" + opener + "\""));
+        assertTrue(out.toString().contains("\"skill\":1.0000"));
+    }
+}
@@ -0,0 +1,140 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.GameJournal;
+import io.SaveLoad;
+import model.WordleModel;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// SaveJournalTest.java
+// JUnit 5 tests for the binary save: snapshot + journal round trip, recovery
+// from a torn journal record, rejection of other binary versions and import of the old
+// JSON save format.
+
+public class SaveJournalTest {
+
+    @TempDir
+    Path tmp;
+
+    private GameJournal journal() {
+        return new GameJournal(tmp.resolve("save.bin"), tmp.resolve("save.journal"), false);
+    }
+
+    @Test
+    void journaledGuessesSurviveRestart() {
+        GameJournal journal = journal();
+        WordleModel model = new WordleModel("apple");
+        model.setGameScore(3);
+        SaveLoad.saveState(model, journal);
+        model.makeGuess("crane");
+        SaveLoad.recordGuess(model, journal);
+        model.makeGuess("angle");
+        SaveLoad.recordGuess(model, journal);
+
+        WordleModel loaded = new WordleModel("zzzzz");
+        SaveLoad.loadState(loaded, journal());
+        assertEquals("apple", loaded.getSecretWord());
+        assertEquals(3, loaded.getGameScore());
+        assertEquals(2, loaded.getGuessCount());
+        assertEquals("angle", loaded.getLastGuess().getGuess());
+        assertEquals(model.getLastGuess().getPattern(), loaded.getLastGuess().getPattern());
+        assertEquals(model.getRemainingCount(), loaded.getRemainingCount());
+
+        // a new game is journaled too and replaces the old guesses
+        loaded.setSecretWord("crane");
+        SaveLoad.recordNewGame(loaded, journal());
+        WordleModel next = new WordleModel("zzzzz");
+        SaveLoad.loadState(next, journal());
+        assertEquals("crane", next.getSecretWord());
+        assertEquals(0, next.getGuessCount());
+    }
+
+    @Test
+    void tornJournalRecordIsIgnored() throws Exception {
+        GameJournal journal = journal();
+        WordleModel model = new WordleModel("apple");
+        SaveLoad.saveState(model, journal);
+        model.makeGuess("crane");
+        SaveLoad.recordGuess(model, journal);
+        model.makeGuess("angle");
+        SaveLoad.recordGuess(model, journal);
+        journal.closeJournal();
+
+        Path file = tmp.resolve("save.journal");
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ch.truncate(Files.size(file) - 3); // crash in the middle of the second append
+        }
+
+        WordleModel loaded = new WordleModel("zzzzz");
+        GameJournal reopened = journal();
+        SaveLoad.loadState(loaded, reopened);
+        assertEquals(1, loaded.getGuessCount());
+        assertEquals("crane", loaded.getLastGuess().getGuess());
+
+        // appending after recovery continues from the last good record
+        loaded.makeGuess("angle");
+        SaveLoad.recordGuess(loaded, reopened);
+        WordleModel again = new WordleModel("zzzzz");
+        SaveLoad.loadState(again, journal());
+        assertEquals(2, again.getGuessCount());
+    }
+
+    @Test
+    void otherSaveVersionsAreRejected() throws Exception {
+        SaveLoad.saveState(new WordleModel("apple"), journal());
+        try (FileChannel ch = FileChannel.open(tmp.resolve("save.bin"), StandardOpenOption.WRITE)) {
+            ch.write(ByteBuffer.allocate(4).putInt(0, 1), 4); // version field
+        }
+        IOException e = assertThrows(IOException.class, () -> journal().load());
+        assertTrue(e.getMessage().contains("Unsupported save version 1"), e.getMessage());
+    }
+
+    @Test
+    void variantGameSurvivesRestart() {
+        GameJournal journal = journal();
+        WordleModel model = new WordleModel("planet", 7);
+        SaveLoad.saveState(model, journal);
+        model.makeGuess("stripe");
+        SaveLoad.recordGuess(model, journal);
+        model.makeGuess("planet"); // all-green pattern is 728, more than a byte
+        SaveLoad.recordGuess(model, journal);
+
+        WordleModel loaded = new WordleModel("zzzzz");
+        SaveLoad.loadState(loaded, journal());
+        assertEquals("planet", loaded.getSecretWord());
+        assertEquals(7, loaded.getMaxGuesses());
+        assertEquals(2, loaded.getGuessCount());
+        assertEquals(model.getLastGuess().getPattern(), loaded.getLastGuess().getPattern());
+        assertTrue(loaded.isWon());
+
+        // journaled new games keep their variant too
+        loaded.newGame(4, 8);
+        SaveLoad.recordNewGame(loaded, journal());
+        WordleModel next = new WordleModel("zzzzz");
+        SaveLoad.loadState(next, journal());
+        assertEquals(loaded.getSecretWord(), next.getSecretWord());
+        assertEquals(8, next.getMaxGuesses());
+    }
+
+    @Test
+    void jsonSaveCanStillBeImported() {
+        File json = tmp.resolve("save.json").toFile();
+        WordleModel model = new WordleModel("apple");
+        model.setGameScore(5);
+        model.makeGuess("crane");
+        SaveLoad.saveState(model, json);
+
+        WordleModel loaded = new WordleModel("zzzzz");
+        SaveLoad.loadState(loaded, json);
+        assertEquals("apple", loaded.getSecretWord());
+        assertEquals(5, loaded.getGameScore());
+        assertEquals(1, loaded.getGuessCount());
+    }
+}
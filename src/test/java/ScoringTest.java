@@ -0,0 +1,77 @@
+import org.junit.jupiter.api.Test;
+import model.*;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// ScoringTest.java
+// JUnit 5 tests checking the packed WordScorer against the original
+// two-pass letter-count algorithm, including duplicate-letter cases.
+
+public class ScoringTest {
+
+    // original Guess.checkWord algorithm, kept here as the reference implementation
+    private static LetterFeedback[] reference(String guess, String secret) {
+        LetterFeedback[] eval = new LetterFeedback[5];
+        int[] counts = new int[26];
+        for (int i = 0; i < 5; i++) counts[secret.charAt(i) - 'a']++;
+        for (int i = 0; i < 5; i++) {
+            if (guess.charAt(i) == secret.charAt(i)) {
+                eval[i] = LetterFeedback.CORRECT;
+                counts[guess.charAt(i) - 'a']--;
+            }
+        }
+        for (int i = 0; i < 5; i++) {
+            if (eval[i] == LetterFeedback.CORRECT) continue;
+            if (counts[guess.charAt(i) - 'a'] > 0) {
+                eval[i] = LetterFeedback.PRESENT;
+                counts[guess.charAt(i) - 'a']--;
+            } else {
+                eval[i] = LetterFeedback.ABSENT;
+            }
+        }
+        return eval;
+    }
+
+    private static void assertMatchesReference(String guess, String secret) {
+        Guess g = new Guess(guess, secret);
+        assertArrayEquals(reference(guess, secret),
+                new LetterFeedback[]{g.getLetterEval(0), g.getLetterEval(1), g.getLetterEval(2),
+                        g.getLetterEval(3), g.getLetterEval(4)},
+                guess + " vs " + secret);
+    }
+
+    @Test
+    void duplicateLetters() {
+        Guess g = new Guess("speed", "abide");
+        assertEquals(LetterFeedback.PRESENT, g.getLetterEval(2), "First E is yellow.");
+        assertEquals(LetterFeedback.ABSENT, g.getLetterEval(3), "Second E is gray (only one E in secret).");
+
+        assertMatchesReference("eerie", "there");
+        assertMatchesReference("llama", "hello");
+        assertMatchesReference("apple", "paper");
+    }
+
+    @Test
+    void allGreenPattern() {
+        Guess g = new Guess("crane", "crane");
+        assertEquals(WordScorer.allCorrect(5), g.getPattern());
+        assertEquals(242, g.getPattern());
+        assertEquals(243, WordScorer.patternCount(5));
+    }
+
+    @Test
+    void feedbackString() {
+        assertEquals("..Y.Y", WordScorer.feedbackString(new Guess("speed", "abide").getPattern(), 5));
+        assertEquals("GGGGG", WordScorer.feedbackString(WordScorer.allCorrect(5), 5));
+    }
+
+    @Test
+    void packedScoringMatchesReference() {
+        WordDictionary dict = WordDictionary.getDefault();
+        Random rnd = new Random(42);
+        for (int n = 0; n < 20000; n++) {
+            assertMatchesReference(dict.wordAt(rnd.nextInt(dict.size())), dict.wordAt(rnd.nextInt(dict.size())));
+        }
+    }
+}
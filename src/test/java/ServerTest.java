@@ -0,0 +1,110 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import server.GameServer;
+import server.GameSession;
+import server.LoadClient;
+import server.SessionLimitException;
+import server.SessionManager;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// ServerTest.java
+// JUnit 5 tests for the multi-session game server: the HTTP/JSON API,
+// session limits/eviction, and a small localhost load run.
+
+public class ServerTest {
+
+    private GameServer server;
+    private URI base;
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new GameServer(new InetSocketAddress("localhost", 0),
+                new SessionManager(() -> "apple", 1000, 60_000), 4);
+        server.start();
+        base = URI.create("http://localhost:" + server.getPort());
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    private HttpResponse<String> call(String method, String path, String body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body);
+        return http.send(HttpRequest.newBuilder(base.resolve(path)).method(method, publisher).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonObject json(HttpResponse<String> response) {
+        return new Gson().fromJson(response.body(), JsonObject.class);
+    }
+
+    @Test
+    void playsAGameOverHttp() throws Exception {
+        HttpResponse<String> created = call("POST", "/games", null);
+        assertEquals(201, created.statusCode());
+        String id = json(created).get("id").getAsString();
+        assertFalse(json(created).has("secret"), "Secret must not leak while the game is running");
+
+        JsonObject first = json(call("POST", "/games/" + id + "/guess", "{\"word\":\"crane\"}"));
+        assertEquals("ACCEPTED", first.get("status").getAsString());
+        assertEquals("..Y.G", first.get("feedback").getAsString());
+        assertFalse(first.get("won").getAsBoolean());
+
+        JsonObject invalid = json(call("POST", "/games/" + id + "/guess", "{\"word\":\"zzzzz\"}"));
+        assertEquals("INVALID_WORD", invalid.get("status").getAsString());
+
+        JsonObject hint = json(call("GET", "/games/" + id + "/hint", null));
+        assertEquals(5, hint.get("word").getAsString().length());
+        assertTrue(hint.get("remaining").getAsInt() >= 1);
+
+        JsonObject last = json(call("POST", "/games/" + id + "/guess", "{\"word\":\"APPLE\"}"));
+        assertTrue(last.get("won").getAsBoolean());
+        assertEquals("apple", last.get("secret").getAsString());
+        assertEquals(2, json(call("GET", "/games/" + id, null)).getAsJsonArray("guesses").size());
+
+        assertEquals(200, call("DELETE", "/games/" + id, null).statusCode());
+        assertEquals(404, call("GET", "/games/" + id, null).statusCode());
+        assertEquals(400, call("POST", "/games/" + json(call("POST", "/games", null)).get("id").getAsString()
+                + "/guess", "{}").statusCode());
+    }
+
+    @Test
+    void fullServerEvictsIdleSessions() throws Exception {
+        SessionManager sessions = new SessionManager(() -> "apple", 2, 50);
+        GameSession a = sessions.create();
+        sessions.create();
+        Thread.sleep(100);
+        sessions.get(a.getId()); // still in use
+        sessions.create();
+        assertEquals(2, sessions.size());
+        assertNotNull(sessions.get(a.getId()));
+        assertThrows(SessionLimitException.class, sessions::create);
+    }
+
+    @Test
+    void loadClientPlaysConcurrentGames() throws Exception {
+        stopServer();
+        server = new GameServer(new InetSocketAddress("localhost", 0),
+                new SessionManager(() -> "light", 1000, 60_000), 4);
+        server.start();
+
+        LoadClient.Report report = new LoadClient(URI.create("http://localhost:" + server.getPort())).run(4, 40, 7);
+        assertEquals(40, report.getGames());
+        assertTrue(report.getWins() > 0 && report.getWins() <= 40);
+        assertTrue(report.getRequests() >= 40 * 3);
+        assertTrue(report.percentile(50) <= report.percentile(99));
+        assertEquals(0, server.getSessions().size(), "Client ends every session it starts");
+    }
+}
@@ -0,0 +1,95 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import model.*;
+import solver.EntropySolver;
+import solver.Hint;
+import solver.RandomCandidateStrategy;
+import sim.BatchSimulator;
+import sim.SimulationReport;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// SolverTest.java
+// JUnit 5 tests for the entropy hint engine: candidate filtering
+// and ranking over a small fixed dictionary, with and without word frequencies.
+
+public class SolverTest {
+
+    @TempDir
+    Path tmp;
+
+    private static final List<String> WORDS = Arrays.asList(
+            "crane", "slate", "trace", "crate", "react", "apple", "mango", "grape", "light", "sound");
+
+    private EntropySolver solver(WordDictionary dict) {
+        return new EntropySolver(PatternTable.load(dict, dict, tmp.resolve("patterns.bin")));
+    }
+
+    @Test
+    void candidatesMatchFeedback() {
+        WordDictionary dict = WordDictionary.fromWords(WORDS, 5);
+        EntropySolver solver = solver(dict);
+
+        Guess[] guesses = {new Guess("crane", "crate")};
+        int[] candidates = solver.candidates(guesses, 1);
+        for (int s : candidates) {
+            assertEquals(guesses[0].getPattern(), new Guess("crane", dict.wordAt(s)).getPattern());
+        }
+        assertTrue(Arrays.stream(candidates).anyMatch(s -> dict.wordAt(s).equals("crate")));
+        assertEquals(dict.size(), solver.candidates(guesses, 0).length);
+    }
+
+    @Test
+    void suggestsInformativeWordAndSolvesEndgame() {
+        WordDictionary dict = WordDictionary.fromWords(WORDS, 5);
+        EntropySolver solver = solver(dict);
+
+        Hint first = solver.suggest(new Guess[0], 0);
+        assertNotNull(first);
+        assertEquals(dict.size(), first.getRemaining());
+        assertTrue(first.getBits() > 0);
+
+        // once only one word fits the feedback, the hint must be that word
+        Guess[] guesses = {new Guess("sound", "light"), new Guess("mango", "light")};
+        Hint last = solver.suggest(guesses, 2);
+        assertEquals(1, solver.candidates(guesses, 2).length);
+        assertEquals(1, last.getRemaining());
+        assertEquals("light", last.getWord());
+    }
+
+    @Test
+    void frequenciesWeightTheRanking() throws Exception {
+        Path list = tmp.resolve("weighted.txt");
+        Files.write(list, Arrays.asList("might 1", "night 50", "sight 2", "fight 1", "crane 5"));
+        WordDictionary dict = WordDictionary.fromFile(list, 5);
+        EntropySolver solver = solver(dict);
+
+        int might = dict.indexOf("might"), night = dict.indexOf("night");
+        List<Hint> pair = solver.rank(new int[]{might, night}, 2);
+        assertEquals("night", pair.get(0).getWord(), "Of two candidates the more common one goes first.");
+        double p = 50.0 / 51; // night's share of the pair
+        double expected = -(p * Math.log(p) + (1 - p) * Math.log(1 - p)) / Math.log(2);
+        for (Hint hint : pair) assertEquals(expected, hint.getBits(), 1e-6, "A skewed pair is worth well under a bit.");
+        assertEquals(1.0, solver(WordDictionary.fromWords(WORDS, 5)).rank(new int[]{0, 1}, 1).get(0).getBits(), 1e-9);
+
+        // night is the likely answer, so even a guess that splits all five words is worth under a bit
+        Hint hint = solver.suggest(new Guess[0], 0);
+        assertTrue(hint.getBits() < 1.0, "Weighted entropy of a skewed list: " + hint);
+    }
+
+    @Test
+    void batchSimulationPlaysEveryGame() throws Exception {
+        List<String> secrets = Arrays.asList("crane", "light", "sound", "apple", "grape", "mango");
+        SimulationReport report = new BatchSimulator(new RandomCandidateStrategy(), 2).run(secrets);
+
+        assertEquals(secrets.size(), report.getGames());
+        long byCount = report.getCount(0);
+        for (int i = 1; i <= 6; i++) byCount += report.getCount(i);
+        assertEquals(report.getGames(), byCount, "Every game lands in the distribution.");
+        assertTrue(report.getWins() > 0);
+    }
+}
@@ -0,0 +1,82 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import control.CachingValidator;
+import control.Verdict;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// ValidationCacheTest.java
+// JUnit 5 tests for the online validation cache: hits, separate TTLs
+// for errors, LRU eviction and persistence between sessions.
+
+public class ValidationCacheTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void cachesAnswersButRetriesErrorsSoon() {
+        AtomicLong now = new AtomicLong(1_000_000);
+        AtomicInteger calls = new AtomicInteger();
+        CachingValidator cache = new CachingValidator(w -> {
+            calls.incrementAndGet();
+            return w.equals("crane") ? Verdict.VALID : w.equals("flaky") ? Verdict.ERROR : Verdict.INVALID;
+        }, 100, null, now::get);
+
+        assertTrue(cache.isValid("crane"));
+        assertTrue(cache.isValid("CRANE"));
+        assertFalse(cache.isValid("xxxxx"));
+        assertFalse(cache.isValid("xxxxx"));
+        assertEquals(2, calls.get(), "Repeated words should be served from the cache.");
+        assertEquals(0.5, cache.getHitRate(), 1e-9);
+
+        assertEquals(Verdict.ERROR, cache.check("flaky"));
+        now.addAndGet(60_000); // errors expire after seconds, answers do not
+        cache.check("flaky");
+        cache.check("crane");
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        AtomicLong now = new AtomicLong(1);
+        CachingValidator cache = new CachingValidator(w -> Verdict.VALID, 10, null, now::get);
+        for (int i = 0; i < 10; i++) {
+            now.incrementAndGet();
+            cache.check("word" + (char) ('a' + i));
+        }
+        now.incrementAndGet();
+        cache.check("worda"); // touch the oldest so it survives
+        cache.check("wordz");
+
+        assertTrue(cache.size() <= 10);
+        assertTrue(cache.getEvictions() > 0);
+        long misses = cache.getMisses();
+        cache.check("worda");
+        assertEquals(misses, cache.getMisses(), "Recently used entry should not be evicted.");
+    }
+
+    @Test
+    void persistsBetweenSessions() {
+        Path file = tmp.resolve("cache.txt");
+        AtomicInteger calls = new AtomicInteger();
+        CachingValidator first = new CachingValidator(w -> {
+            calls.incrementAndGet();
+            return w.equals("flaky") ? Verdict.ERROR : Verdict.VALID;
+        }, 100, file, System::currentTimeMillis);
+        first.check("crane");
+        first.check("flaky");
+        first.save();
+
+        CachingValidator second = new CachingValidator(w -> {
+            calls.incrementAndGet();
+            return Verdict.INVALID;
+        }, 100, file, System::currentTimeMillis);
+        assertTrue(second.isValid("crane"), "Saved answer should be reused.");
+        assertEquals(1, second.size(), "Errors are never persisted.");
+        assertEquals(2, calls.get());
+    }
+}
@@ -0,0 +1,99 @@
+import org.junit.jupiter.api.Test;
+import control.GuessResult;
+import control.GuessValidator;
+import control.WordleController;
+import model.PatternMasks;
+import model.RandomWordFetcher;
+import model.WordCodec;
+import model.WordDictionary;
+import model.WordleModel;
+import model.WordScorer;
+import java.util.concurrent.CompletionException;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+// VariantTest.java
+// JUnit 5 tests for game variants: per-length dictionaries and answer lists, custom
+// guess limits, validation of other word lengths, hints being limited to short words and
+// long-word masks staying within their memory budget.
+
+public class VariantTest {
+
+    @Test
+    void eachLengthHasItsOwnDictionary() {
+        for (int len = WordDictionary.MIN_LENGTH; len <= WordDictionary.MAX_LENGTH; len++) {
+            WordDictionary dict = WordDictionary.forLength(len);
+            assertEquals(len, dict.getWordLength());
+            assertTrue(dict.size() > 1000, len + "-letter list should be bundled.");
+            assertSame(dict, WordDictionary.forLength(len), "Each list is loaded once.");
+            assertTrue(WordDictionary.isLoaded(len));
+        }
+        assertSame(WordDictionary.getDefault(), WordDictionary.forLength(5));
+        assertThrows(IllegalArgumentException.class, () -> WordDictionary.forLength(9));
+    }
+
+    @Test
+    void secretsComeFromEachLengthsAnswerList() {
+        for (int len = WordDictionary.MIN_LENGTH; len <= WordDictionary.MAX_LENGTH; len++) {
+            WordDictionary dict = WordDictionary.forLength(len);
+            WordDictionary answers = WordDictionary.answersForLength(len);
+            assertTrue(answers.size() > 500 && answers.size() < dict.size() / 2, len + "-letter answers should be bundled.");
+            for (int i = 0; i < answers.size(); i++) assertTrue(dict.contains(answers.packedAt(i)), answers.wordAt(i));
+            if (len != WordDictionary.DEFAULT_LENGTH) {
+                for (int i = 0; i < 20; i++) assertTrue(answers.contains(RandomWordFetcher.nextSecretWord(len)));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> WordDictionary.answersForLength(3));
+    }
+
+    @Test
+    void longerWordsWithMoreGuesses() {
+        WordleModel model = new WordleModel("planet", 7);
+        assertEquals(6, model.getWordLength());
+        assertEquals(7, model.getMaxGuesses());
+        for (int i = 0; i < 6; i++) model.makeGuess("stripe");
+        assertFalse(model.isLost(), "Six misses are not a loss with seven guesses.");
+        model.makeGuess("planet");
+        assertTrue(model.isWon());
+        assertEquals(1, model.getRemainingCount());
+
+        model.newGame(4, 3);
+        assertEquals(4, model.getSecretWord().length());
+        assertEquals(0, model.getGuessCount());
+        assertEquals(WordDictionary.forLength(4).size(), model.getRemainingCount());
+    }
+
+    @Test
+    void validatorAcceptsEveryBundledLength() {
+        assertTrue(GuessValidator.isValid("bake"));
+        assertTrue(GuessValidator.isValid("planet"));
+        assertTrue(GuessValidator.isValid("example"));
+        assertTrue(GuessValidator.isValid("absolute"));
+        assertFalse(GuessValidator.isValid("abcdefghi"));
+    }
+
+    @Test
+    void controllerChecksTheGamesLength() {
+        WordleController controller = new WordleController(new WordleModel("planet", 7));
+        assertEquals(GuessResult.Status.WRONG_LENGTH, controller.submitGuess("crane").join().getStatus());
+        assertEquals(GuessResult.Status.ACCEPTED, controller.submitGuess("stripe").join().getStatus());
+
+        CompletionException e = assertThrows(CompletionException.class, () -> controller.requestHint().join());
+        assertTrue(e.getCause() instanceof UnsupportedOperationException, "No pattern table for 6+ letters.");
+    }
+
+    @Test
+    void longWordMasksStayWithinTheirByteBudget() {
+        WordDictionary dict = WordDictionary.forLength(8);
+        long budget = 4L << 20;
+        PatternMasks masks = new PatternMasks(dict, budget);
+        long secret = WordCodec.encode("absolute");
+        for (int i = 0; i < 10; i++) {
+            long guess = dict.packedAt(i);
+            long[] mask = masks.mask(guess, WordScorer.score(guess, secret, 8));
+            assertTrue(mask.length > 0);
+            assertTrue(masks.getCachedBytes() <= budget, "Cache grew to " + masks.getCachedBytes());
+        }
+        assertTrue(masks.getCachedBytes() > 0);
+    }
+}
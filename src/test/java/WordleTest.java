@@ -1,7 +1,15 @@
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import model.*;
+import control.GameListener;
+import control.GuessResult;
 import control.WordleController;
+import metrics.Counter;
+import metrics.Metrics;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -106,4 +114,109 @@ public class WordleTest {
             assertNotNull(guess.getLetterEval(i));
         }
     }
+
+    @Test
+    void remainingWordsNarrowAfterEachGuess() {
+        WordleModel model = new WordleModel("light");
+        int all = model.getRemainingCount();
+
+        model.makeGuess("crane");
+        int afterFirst = model.getRemainingCount();
+        model.makeGuess("sloth");
+        int afterSecond = model.getRemainingCount();
+
+        assertTrue(afterFirst < all && afterSecond <= afterFirst, "Each guess should narrow the candidates.");
+        assertTrue(model.getCandidates().contains(WordDictionary.getDefault().indexOf("light")),
+                "The secret must always remain a candidate.");
+        for (int i : model.getCandidates().toIndices()) {
+            String w = WordDictionary.getDefault().wordAt(i);
+            assertEquals(new Guess("crane", "light").getPattern(), new Guess("crane", w).getPattern());
+            assertEquals(new Guess("sloth", "light").getPattern(), new Guess("sloth", w).getPattern());
+        }
+    }
+
+    @Test
+    void asyncGuessPipelinePublishesResults() throws Exception {
+        WordleModel model = new WordleModel("light");
+        WordleController controller = new WordleController(model);
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        List<GuessResult> published = new CopyOnWriteArrayList<>();
+        controller.setExecutors(worker, Runnable::run);
+        controller.setResultHandler(published::add);
+
+        GuessResult ok = controller.submitGuess("crane").get();
+        GuessResult bad = controller.submitGuess("zzzzz").get();
+        worker.shutdown();
+
+        assertTrue(ok.isAccepted());
+        assertEquals(GuessResult.Status.INVALID_WORD, bad.getStatus());
+        assertEquals(2, published.size(), "Both results should be published.");
+        assertEquals(1, controller.getGuessCount());
+        assertEquals(0, controller.getPendingCount());
+    }
+
+    @Test
+    void listenersSeeGuessEventsWithoutADisplay() {
+        WordleModel model = new WordleModel("light");
+        WordleController controller = new WordleController(model);
+        List<String> events = new CopyOnWriteArrayList<>();
+        controller.addListener(new GameListener() {
+            @Override
+            public void guessAccepted(Guess guess) { events.add("accepted " + guess.getGuess()); }
+            @Override
+            public void guessRejected(String word, GuessResult.Status reason) { events.add("rejected " + reason); }
+            @Override
+            public void gameWon(String secretWord, int guesses) { events.add("won " + secretWord + " " + guesses); }
+        });
+
+        controller.onGuess("hi");
+        controller.onGuess("zzzzz");
+        controller.onGuess("crane");
+        controller.onGuess("light");
+        controller.onGuess("sloth");
+
+        assertEquals(List.of("rejected WRONG_LENGTH", "rejected INVALID_WORD", "accepted crane",
+                "accepted light", "won light 2", "rejected GAME_OVER"), events);
+    }
+
+    @Test
+    void failingListenerIsCountedAndOthersStillHear() {
+        WordleController controller = new WordleController(new WordleModel("light"));
+        Counter errors = Metrics.counter("listener.errors");
+        long before = errors.getCount();
+        List<String> events = new CopyOnWriteArrayList<>();
+        controller.addListener(new GameListener() {
+            @Override
+            public void guessAccepted(Guess guess) { throw new IllegalStateException("boom"); }
+        });
+        controller.addListener(new GameListener() {
+            @Override
+            public void guessAccepted(Guess guess) { events.add(guess.getGuess()); }
+        });
+
+        controller.onGuess("crane");
+
+        assertEquals(List.of("crane"), events);
+        assertEquals(before + 1, errors.getCount());
+    }
+
+    @Test
+    void secretWordPoolServesPrefetchedWordsAndFallsBackOffline() {
+        WordDictionary dict = WordDictionary.getDefault();
+        SecretWordPool pool = new SecretWordPool(n -> java.util.Arrays.asList("crane", "notaword", "light"),
+                dict, 4, Runnable::run);
+
+        String first = pool.take(); // empty pool: served from the dictionary, refill kicks in
+        assertTrue(dict.contains(first));
+        assertEquals(1, pool.getMisses());
+        assertEquals(2, pool.size(), "Only dictionary words should be pooled.");
+
+        assertEquals("crane", pool.take());
+        assertEquals(1, pool.getHits());
+
+        SecretWordPool offline = new SecretWordPool(n -> { throw new java.io.IOException("offline"); },
+                dict, 4, Runnable::run);
+        assertTrue(dict.contains(offline.take()));
+        assertEquals(1, offline.getRefillFailures());
+    }
 }